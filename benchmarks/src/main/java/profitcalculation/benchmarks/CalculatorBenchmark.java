@@ -0,0 +1,98 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.model.GoalPlannerModel;
+import profitcalculation.model.InvestmentCalculatorModel;
+import profitcalculation.model.OneTimeInvestmentModel;
+import profitcalculation.model.ScheduleTableModel;
+
+import java.util.concurrent.TimeUnit;
+
+/** The calculate paths behind each tab's Calculate button, across horizons. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculatorBenchmark {
+    @Param({"12", "120", "1200", "10000"})
+    public int months;
+
+    private final InvestmentCalculatorModel investmentModel = new InvestmentCalculatorModel();
+    private final GoalPlannerModel goalModel = new GoalPlannerModel();
+    private final OneTimeInvestmentModel oneTimeModel = new OneTimeInvestmentModel();
+    private double goalTarget;
+    private double oneTimeTarget;
+
+    @Setup
+    public void setUp() {
+        goalTarget = Scenarios.goalTarget(months);
+        oneTimeTarget = Scenarios.oneTimeTarget(months);
+        Scenarios.goalPlanner(months);
+        Scenarios.oneTimeInvestment(months);
+    }
+
+    @Benchmark
+    public double investmentCalculator() {
+        investmentModel.calculate(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT, months);
+        return investmentModel.getFinalAmount();
+    }
+
+    /** Calculate and then read every cell, as a full table scroll or export would. */
+    @Benchmark
+    public void investmentCalculatorAllRows(Blackhole blackhole) {
+        investmentModel.calculate(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT, months);
+        readAll(investmentModel.getTableModel(), blackhole);
+    }
+
+    /** Daily compounding over the same horizon, reported in monthly rows. */
+    @Benchmark
+    public double investmentCalculatorDaily() {
+        investmentModel.calculate(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT, months,
+                CompoundingFrequency.DAILY, CompoundingFrequency.MONTHLY);
+        return investmentModel.getFinalAmount();
+    }
+
+    @Benchmark
+    public void investmentCalculatorDailyAllRows(Blackhole blackhole) {
+        investmentModel.calculate(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT, months,
+                CompoundingFrequency.DAILY, CompoundingFrequency.MONTHLY);
+        readAll(investmentModel.getTableModel(), blackhole);
+    }
+
+    @Benchmark
+    public boolean goalPlanner() {
+        return goalModel.calculate(goalTarget, Scenarios.MONTHLY_INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT);
+    }
+
+    @Benchmark
+    public boolean oneTimeInvestment() {
+        return oneTimeModel.calculate(Scenarios.INVESTMENT, oneTimeTarget, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT);
+    }
+
+    @Benchmark
+    public boolean oneTimeInvestmentSummary() {
+        return oneTimeModel.calculateSummary(Scenarios.INVESTMENT, oneTimeTarget, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT);
+    }
+
+    private static void readAll(ScheduleTableModel tableModel, Blackhole blackhole) {
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            for (int column = 0; column < tableModel.getColumnCount(); column++) {
+                blackhole.consume(tableModel.getValueAt(row, column));
+            }
+        }
+    }
+}
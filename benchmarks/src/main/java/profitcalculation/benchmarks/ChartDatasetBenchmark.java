@@ -0,0 +1,85 @@
+package profitcalculation.benchmarks;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.controller.ChartDatasets;
+import profitcalculation.controller.SeriesXYDataset;
+import profitcalculation.engine.Schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dataset building done by each tab's Show Chart button before the chart is drawn. The category
+ * builders back horizons up to {@link ChartDatasets#CATEGORY_LIMIT} months, the XY ones the rest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChartDatasetBenchmark {
+    private static final int PLOT_WIDTH = 1000;
+
+    @Param({"12", "120", "1200", "10000"})
+    public int months;
+
+    private Schedule investmentSchedule;
+    private Schedule goalSchedule;
+    private Schedule oneTimeSchedule;
+
+    @Setup
+    public void setUp() {
+        investmentSchedule = Scenarios.investmentCalculator(months).getTableModel().getSchedule();
+        goalSchedule = Scenarios.goalPlanner(months).getTableModel().getSchedule();
+        oneTimeSchedule = Scenarios.oneTimeInvestment(months).getTableModel().getSchedule();
+    }
+
+    @Benchmark
+    public DefaultCategoryDataset investmentCalculator() {
+        return ChartDatasets.investmentBreakdown(investmentSchedule);
+    }
+
+    @Benchmark
+    public DefaultCategoryDataset[] goalPlanner() {
+        return ChartDatasets.goalProgress(goalSchedule);
+    }
+
+    @Benchmark
+    public DefaultCategoryDataset oneTimeInvestment() {
+        return ChartDatasets.oneTimeGrowth(oneTimeSchedule);
+    }
+
+    @Benchmark
+    public SeriesXYDataset investmentCalculatorXY() {
+        return ChartDatasets.investmentBreakdownXY(investmentSchedule);
+    }
+
+    @Benchmark
+    public SeriesXYDataset[] goalPlannerXY() {
+        return ChartDatasets.goalProgressXY(goalSchedule);
+    }
+
+    @Benchmark
+    public SeriesXYDataset oneTimeInvestmentXY() {
+        return ChartDatasets.oneTimeGrowthXY(oneTimeSchedule);
+    }
+
+    /** Zoomed-out view of a 1000 pixel wide plot, as redone on every zoom or resize. */
+    @Benchmark
+    public SeriesXYDataset investmentCalculatorDownsampled() {
+        SeriesXYDataset dataset = ChartDatasets.investmentBreakdownXY(investmentSchedule);
+        dataset.showRange(0, months + 1, PLOT_WIDTH);
+        return dataset;
+    }
+}
@@ -0,0 +1,115 @@
+package profitcalculation.benchmarks;
+
+import com.itextpdf.text.DocumentException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.controller.SchedulePdfExporter;
+import profitcalculation.export.ScheduleCsvExporter;
+import profitcalculation.model.ScheduleTableModel;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The monthly breakdown part of the CSV and PDF exports. Output goes to memory or is discarded,
+ * so disk speed does not show up in the numbers. Both read the typed schedule, as the exports do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+    @Param({"12", "120", "1200", "10000"})
+    public int months;
+
+    private ScheduleTableModel investmentTable;
+    private ScheduleTableModel goalTable;
+    private ScheduleTableModel oneTimeTable;
+    private final CharArrayWriter writer = new CharArrayWriter();
+
+    @Setup
+    public void setUp() {
+        investmentTable = Scenarios.investmentCalculator(months).getTableModel();
+        goalTable = Scenarios.goalPlanner(months).getTableModel();
+        oneTimeTable = Scenarios.oneTimeInvestment(months).getTableModel();
+    }
+
+    @Benchmark
+    public int csvInvestmentCalculator() throws IOException {
+        return csv(investmentTable);
+    }
+
+    @Benchmark
+    public int csvGoalPlanner() throws IOException {
+        return csv(goalTable);
+    }
+
+    @Benchmark
+    public int csvOneTimeInvestment() throws IOException {
+        return csv(oneTimeTable);
+    }
+
+    @Benchmark
+    public int pdfInvestmentCalculator() throws DocumentException {
+        return pdf(investmentTable);
+    }
+
+    @Benchmark
+    public int pdfGoalPlanner() throws DocumentException {
+        return pdf(goalTable);
+    }
+
+    @Benchmark
+    public int pdfOneTimeInvestment() throws DocumentException {
+        return pdf(oneTimeTable);
+    }
+
+    private int csv(ScheduleTableModel tableModel) throws IOException {
+        writer.reset();
+        new ScheduleCsvExporter().line("Monthly Breakdown:").write(writer, header(tableModel), tableModel.getSchedule());
+        return writer.size();
+    }
+
+    private int pdf(ScheduleTableModel tableModel) throws DocumentException {
+        CountingOutputStream out = new CountingOutputStream();
+        new SchedulePdfExporter().section("Monthly Breakdown:")
+                .write(out, header(tableModel), tableModel.getSchedule(), percent -> { });
+        return out.count;
+    }
+
+    private static String[] header(ScheduleTableModel tableModel) {
+        String[] header = new String[tableModel.getColumnCount()];
+        for (int column = 0; column < header.length; column++) {
+            header[column] = tableModel.getColumnName(column);
+        }
+        return header;
+    }
+
+    /** Discards the PDF bytes but keeps their count, so the writing cannot be optimized away. */
+    private static final class CountingOutputStream extends OutputStream {
+        int count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
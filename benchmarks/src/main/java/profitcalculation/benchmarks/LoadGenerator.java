@@ -0,0 +1,185 @@
+package profitcalculation.benchmarks;
+
+import profitcalculation.engine.QuantileSketch;
+import profitcalculation.service.CalculatorService;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Closed-loop load generator for the calculator service. Each connection is a thread that sends
+ * keep-alive summary requests back to back for a warm-up, then for the measured period, and
+ * reports throughput and latency percentiles. Without --url it starts the service in this JVM on
+ * a free port, so the numbers include both sides on the same machine.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar profitcalculation.benchmarks.LoadGenerator \
+ *     [--url http://127.0.0.1:8080] [--connections 32] [--warmup 5] [--seconds 10]
+ * </pre>
+ */
+public class LoadGenerator {
+    private static final String[] PATHS = {
+        "/api/investment?investment=" + (int) Scenarios.INVESTMENT + "&profit_pct=" + Scenarios.PROFIT_PCT
+            + "&charity_pct=" + Scenarios.CHARITY_PCT + "&months=120",
+        "/api/goal?target_profit=" + Scenarios.goalTarget(120) + "&monthly_investment=" + (int) Scenarios.MONTHLY_INVESTMENT
+            + "&profit_pct=" + Scenarios.PROFIT_PCT + "&charity_pct=" + Scenarios.CHARITY_PCT,
+        "/api/onetime?investment=" + (int) Scenarios.INVESTMENT + "&target_profit=" + Scenarios.oneTimeTarget(120)
+            + "&profit_pct=" + Scenarios.PROFIT_PCT + "&charity_pct=" + Scenarios.CHARITY_PCT
+    };
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int connections = 32;
+        int warmupSeconds = 5;
+        int seconds = 10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--connections" -> connections = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[i + 1]);
+                case "--seconds" -> seconds = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        CalculatorService service = null;
+        InetSocketAddress address;
+        if (url == null) {
+            CalculatorService.useNoDelay();
+            service = new CalculatorService(new InetSocketAddress("127.0.0.1", 0));
+            service.start();
+            address = new InetSocketAddress("127.0.0.1", service.getPort());
+        } else {
+            URI uri = URI.create(url);
+            address = new InetSocketAddress(uri.getHost(), uri.getPort() < 0 ? 80 : uri.getPort());
+        }
+
+        try {
+            System.out.printf(Locale.ROOT, "%d connections to %s, %d s warm-up, %d s measured%n",
+                connections, address, warmupSeconds, seconds);
+            run(address, connections, warmupSeconds, false);
+            Result result = run(address, connections, seconds, true);
+            System.out.printf(Locale.ROOT, "%,d requests, %,d errors, %,.0f requests/s%n",
+                result.requests, result.errors, result.requests / (double) seconds);
+            System.out.printf(Locale.ROOT, "latency ms: p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f%n",
+                result.latency.quantile(0.5) / 1e6, result.latency.quantile(0.9) / 1e6,
+                result.latency.quantile(0.99) / 1e6, result.latency.quantile(0.999) / 1e6);
+        } finally {
+            if (service != null) {
+                service.stop();
+            }
+        }
+    }
+
+    private static Result run(InetSocketAddress address, int connections, int seconds, boolean measure)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            Client client = new Client(address, deadline, i);
+            clients.add(client);
+            client.start();
+        }
+        Result total = new Result();
+        for (Client client : clients) {
+            client.join();
+            total.requests += client.result.requests;
+            total.errors += client.result.errors;
+            if (measure) {
+                total.latency.merge(client.result.latency);
+            }
+        }
+        return total;
+    }
+
+    private static final class Result {
+        long requests;
+        long errors;
+        final QuantileSketch latency = new QuantileSketch(0.01);
+    }
+
+    /** One keep-alive connection that reconnects after any failure. */
+    private static final class Client extends Thread {
+        private final InetSocketAddress address;
+        private final long deadline;
+        private final byte[][] requests;
+        private final Result result = new Result();
+        private int next;
+
+        Client(InetSocketAddress address, long deadline, int index) {
+            super("load-" + index);
+            setDaemon(true);
+            this.address = address;
+            this.deadline = deadline;
+            this.next = index;
+            String host = address.getHostString() + ":" + address.getPort();
+            requests = new byte[PATHS.length][];
+            for (int i = 0; i < PATHS.length; i++) {
+                requests[i] = ("GET " + PATHS[i] + " HTTP/1.1\r\nHost: " + host + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+                    socket.setTcpNoDelay(true);
+                    OutputStream out = socket.getOutputStream();
+                    InputStream in = new BufferedInputStream(socket.getInputStream(), 8192);
+                    long now;
+                    while ((now = System.nanoTime()) < deadline) {
+                        out.write(requests[next++ % requests.length]);
+                        out.flush();
+                        int status = readResponse(in);
+                        result.latency.add(System.nanoTime() - now);
+                        result.requests++;
+                        if (status != 200) {
+                            result.errors++;
+                        }
+                    }
+                } catch (IOException e) {
+                    result.errors++;
+                }
+            }
+        }
+
+        /** Reads one response with a Content-Length body and returns its status code. */
+        private static int readResponse(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int status = -1;
+            int length = 0;
+            while (true) {
+                line.setLength(0);
+                int c;
+                while ((c = in.read()) != '\n') {
+                    if (c < 0) {
+                        throw new IOException("Connection closed");
+                    }
+                    if (c != '\r') {
+                        line.append((char) c);
+                    }
+                }
+                if (line.length() == 0) {
+                    break;
+                }
+                if (status < 0) {
+                    status = Integer.parseInt(line.substring(9, 12));
+                } else if (line.length() > 15 && line.substring(0, 15).equalsIgnoreCase("content-length:")) {
+                    length = Integer.parseInt(line.substring(15).trim());
+                }
+            }
+            in.skipNBytes(length);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.FixedPointCalculator;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.MoneyRounding;
+import profitcalculation.engine.OneTimeInvestment;
+import profitcalculation.engine.ScheduleColumns;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month-by-month money loops: the floating-point loop the calculators run, the fixed-point
+ * engine, and a BigDecimal loop as the exact reference. Setup fails if the fixed-point totals
+ * differ from the reference by a single unit under either rounding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    @Param({"12", "120", "1200"})
+    public int months;
+
+    @Setup
+    public void checkAgainstReference() {
+        for (MoneyRounding rounding : MoneyRounding.values()) {
+            InvestmentCalculatorResult exact = FixedPointCalculator.investment(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT,
+                    Scenarios.CHARITY_PCT, months, rounding, false);
+            BigDecimal[] reference = bigDecimalLoop(rounding.getMode());
+            double[] actual = {exact.totalProfit(), exact.totalCharity(), exact.finalAmount()};
+            for (int i = 0; i < actual.length; i++) {
+                if (BigDecimal.valueOf(actual[i]).compareTo(reference[i]) != 0) {
+                    throw new IllegalStateException(rounding + " gave " + actual[i] + " instead of " + reference[i]);
+                }
+            }
+        }
+    }
+
+    /** Totals in double, rounding to the nearest binary fraction at every step. */
+    @Benchmark
+    public double doubleLoop() {
+        double rate = Scenarios.PROFIT_PCT / 100;
+        double charityRate = Scenarios.CHARITY_PCT / 100;
+        double value = Scenarios.INVESTMENT;
+        double totalProfit = 0;
+        double totalCharity = 0;
+        for (int month = 1; month <= months; month++) {
+            double profit = value * rate;
+            double charity = profit * charityRate;
+            value += profit - charity;
+            totalProfit += profit;
+            totalCharity += charity;
+        }
+        return value + totalProfit + totalCharity;
+    }
+
+    @Benchmark
+    public InvestmentCalculatorResult fixedPoint() {
+        return FixedPointCalculator.investment(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT,
+                months, MoneyRounding.HALF_EVEN, false);
+    }
+
+    /** The One-Time Investment breakdown, the calculators' existing floating-point row loop. */
+    @Benchmark
+    public ScheduleColumns doubleSchedule() {
+        return OneTimeInvestment.computeSchedule(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT,
+                months);
+    }
+
+    @Benchmark
+    public InvestmentCalculatorResult fixedPointSchedule() {
+        return FixedPointCalculator.investment(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT,
+                months, MoneyRounding.HALF_EVEN, true);
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimalReference() {
+        return bigDecimalLoop(RoundingMode.HALF_EVEN);
+    }
+
+    /** Total profit, total charity and final amount, rounding each month's amounts to scale 4. */
+    private BigDecimal[] bigDecimalLoop(RoundingMode rounding) {
+        BigDecimal rate = BigDecimal.valueOf(Scenarios.PROFIT_PCT).movePointLeft(2);
+        BigDecimal charityRate = BigDecimal.valueOf(Scenarios.CHARITY_PCT).movePointLeft(2);
+        BigDecimal value = BigDecimal.valueOf(Scenarios.INVESTMENT).setScale(4, rounding);
+        BigDecimal totalProfit = BigDecimal.ZERO;
+        BigDecimal totalCharity = BigDecimal.ZERO;
+        for (int month = 1; month <= months; month++) {
+            BigDecimal profit = value.multiply(rate).setScale(4, rounding);
+            BigDecimal charity = profit.multiply(charityRate).setScale(4, rounding);
+            value = value.add(profit).subtract(charity);
+            totalProfit = totalProfit.add(profit);
+            totalCharity = totalCharity.add(charity);
+        }
+        return new BigDecimal[] {totalProfit, totalCharity, value};
+    }
+}
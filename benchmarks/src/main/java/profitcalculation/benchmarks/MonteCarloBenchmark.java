@@ -0,0 +1,43 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.MonteCarloResult;
+import profitcalculation.engine.MonteCarloSimulation;
+import profitcalculation.engine.ReturnDistribution;
+
+import java.util.concurrent.TimeUnit;
+
+/** 10,000 Monte Carlo paths per run, as done by the Monte Carlo buttons with the default settings. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonteCarloBenchmark {
+    private static final int PATHS = 10000;
+    private static final ReturnDistribution RETURNS = ReturnDistribution.lognormal(Scenarios.PROFIT_PCT, 1.5);
+
+    @Param({"120", "600"})
+    public int months;
+
+    @Benchmark
+    public MonteCarloResult investment() {
+        return MonteCarloSimulation.investment(Scenarios.INVESTMENT, Scenarios.CHARITY_PCT, months, RETURNS, PATHS, 42);
+    }
+
+    @Benchmark
+    public MonteCarloResult goalPlanner() {
+        return MonteCarloSimulation.goalPlanner(Scenarios.goalTarget(months / 2), Scenarios.MONTHLY_INVESTMENT,
+                Scenarios.CHARITY_PCT, months, RETURNS, PATHS, 42);
+    }
+}
@@ -0,0 +1,77 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.Portfolio;
+import profitcalculation.engine.PortfolioCalculator;
+import profitcalculation.engine.PortfolioResult;
+import profitcalculation.engine.Schedule;
+import profitcalculation.model.InvestmentCalculatorModel;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly portfolio totals over many positions: the structure-of-arrays portfolio engine against
+ * running the Investment Calculator model once per holding and adding up its breakdown rows.
+ * Setup fails if the two disagree on the final portfolio value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortfolioBenchmark {
+    @Param({"100", "10000"})
+    public int positions;
+
+    @Param({"360"})
+    public int months;
+
+    private Portfolio portfolio;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        portfolio = new Portfolio(positions);
+        for (int i = 0; i < positions; i++) {
+            portfolio.add(Scenarios.INVESTMENT * random.nextDouble(0.1, 10),
+                    Scenarios.PROFIT_PCT * random.nextDouble(0, 3), Scenarios.CHARITY_PCT * random.nextDouble(0, 2));
+        }
+        double expected = perHoldingModel()[months - 1];
+        double actual = structureOfArrays().finalAmount();
+        if (Math.abs(actual - expected) > 1e-9 * expected) {
+            throw new IllegalStateException("Portfolio engine gave " + actual + " instead of " + expected);
+        }
+    }
+
+    @Benchmark
+    public PortfolioResult structureOfArrays() {
+        return PortfolioCalculator.compute(portfolio, months);
+    }
+
+    /** Portfolio value after each month, one model and one breakdown per holding. */
+    @Benchmark
+    public double[] perHoldingModel() {
+        double[] value = new double[months];
+        for (int i = 0; i < portfolio.size(); i++) {
+            InvestmentCalculatorModel model = new InvestmentCalculatorModel();
+            model.calculate(portfolio.getPrincipal(i), portfolio.getProfitPct(i), portfolio.getCharityPct(i), months);
+            Schedule schedule = model.getTableModel().getSchedule();
+            for (int row = 0; row < schedule.size(); row++) {
+                value[row] += schedule.getValue(row, 3);
+            }
+        }
+        return value;
+    }
+}
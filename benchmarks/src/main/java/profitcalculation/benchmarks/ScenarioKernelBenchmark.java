@@ -0,0 +1,112 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.ScenarioKernel;
+import profitcalculation.engine.ScenarioKernels;
+import profitcalculation.model.InvestmentCalculatorModel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Final values of many independent scenarios over the same horizon: one Investment Calculator
+ * model run per scenario, the scalar scenario kernel, and the fastest kernel available, which is
+ * the Vector API kernel when the benchmarks were built with -Pvector. The forks add
+ * jdk.incubator.vector either way. Setup prints the kernel in use and fails if the scalar kernel
+ * differs from the model by more than rounding or the fastest kernel differs from it at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScenarioKernelBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int scenarios;
+
+    @Param({"120"})
+    public int months;
+
+    private double[] principal;
+    private double[] profitPct;
+    private double[] charityPct;
+    private double[] rate;
+    private double[] retained;
+    private double[] amount;
+    private double[] totalProfit;
+    private ScenarioKernel fastest;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        principal = new double[scenarios];
+        profitPct = new double[scenarios];
+        charityPct = new double[scenarios];
+        rate = new double[scenarios];
+        retained = new double[scenarios];
+        for (int i = 0; i < scenarios; i++) {
+            principal[i] = Scenarios.INVESTMENT * random.nextDouble(0.1, 10);
+            profitPct[i] = Scenarios.PROFIT_PCT * random.nextDouble(0, 3);
+            charityPct[i] = Scenarios.CHARITY_PCT * random.nextDouble(0, 2);
+            rate[i] = profitPct[i] / 100;
+            retained[i] = 1 - charityPct[i] / 100;
+        }
+        amount = new double[scenarios];
+        totalProfit = new double[scenarios];
+        fastest = ScenarioKernels.fastest();
+        System.out.println("Fastest kernel: " + fastest.name());
+
+        double[] expected = model();
+        double[] scalar = run(ScenarioKernels.scalar()).clone();
+        for (int i = 0; i < scenarios; i++) {
+            if (Math.abs(scalar[i] - expected[i]) > 1e-9 * expected[i]) {
+                throw new IllegalStateException("Scalar kernel gave " + scalar[i] + " instead of " + expected[i]
+                        + " for scenario " + i);
+            }
+        }
+        if (!Arrays.equals(run(fastest), scalar)) {
+            throw new IllegalStateException(fastest.name() + " differs from the scalar kernel");
+        }
+    }
+
+    /** Final values from the Investment Calculator model, one scenario at a time. */
+    @Benchmark
+    public double[] model() {
+        double[] finalAmount = new double[scenarios];
+        InvestmentCalculatorModel model = new InvestmentCalculatorModel();
+        for (int i = 0; i < scenarios; i++) {
+            model.calculate(principal[i], profitPct[i], charityPct[i], months);
+            finalAmount[i] = model.getFinalAmount();
+        }
+        return finalAmount;
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        return run(ScenarioKernels.scalar());
+    }
+
+    @Benchmark
+    public double[] fastestKernel() {
+        return run(fastest);
+    }
+
+    private double[] run(ScenarioKernel kernel) {
+        System.arraycopy(principal, 0, amount, 0, scenarios);
+        Arrays.fill(totalProfit, 0);
+        kernel.advance(amount, rate, retained, totalProfit, months);
+        return amount;
+    }
+}
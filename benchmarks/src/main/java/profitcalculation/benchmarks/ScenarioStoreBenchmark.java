@@ -0,0 +1,175 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.InvestmentCalculator;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.ScheduleColumns;
+import profitcalculation.export.ScheduleCsvExporter;
+import profitcalculation.model.ScheduleTableModel;
+import profitcalculation.store.SavedScenario;
+import profitcalculation.store.ScenarioParameters;
+import profitcalculation.store.ScenarioStore;
+import profitcalculation.store.ScenarioSummary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Bringing a saved Investment Calculator schedule back into the table model: decoded from the
+ * scenario store, with and without opening the store first, against recalculating it and against
+ * parsing its CSV export. Every variant reads each cell once, so the lazily computed schedule
+ * pays for its rows too. Also lists a store of a thousand scenarios by calculator and rate.
+ * Setup fails if a stored schedule does not read back exactly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScenarioStoreBenchmark {
+    private static final int SAVED_SCENARIOS = 1000;
+
+    @Param({"120", "10000"})
+    public int months;
+
+    private Path directory;
+    private Path reopenDirectory;
+    private Path csvFile;
+    private ScenarioStore store;
+    private SavedScenario saved;
+    private final ScheduleTableModel tableModel = new ScheduleTableModel("Month", "Profit", "Charity", "Investment Value");
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("scenario-store");
+        reopenDirectory = Files.createTempDirectory("scenario-store");
+        InvestmentInputs inputs = new InvestmentInputs(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT,
+            months);
+        InvestmentCalculatorResult result = recalculateResult();
+        ScenarioParameters parameters = ScenarioParameters.investment(inputs, CompoundingFrequency.MONTHLY,
+            CompoundingFrequency.MONTHLY, null);
+
+        store = ScenarioStore.open(directory);
+        for (int i = 1; i < SAVED_SCENARIOS; i++) {
+            InvestmentInputs other = new InvestmentInputs(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT * (i % 30) / 10,
+                Scenarios.CHARITY_PCT, 120);
+            InvestmentCalculatorResult otherResult = InvestmentCalculator.compute(other.investment(), other.profitPct(),
+                other.charityPct(), other.months());
+            ScenarioParameters otherParameters = ScenarioParameters.investment(other, CompoundingFrequency.MONTHLY,
+                CompoundingFrequency.MONTHLY, null);
+            store.save("Scenario " + i, otherParameters, ScenarioSummary.of(otherParameters, otherResult),
+                otherResult.schedule());
+        }
+        saved = store.save("Benchmark", parameters, ScenarioSummary.of(parameters, result), result.schedule());
+        try (ScenarioStore reopen = ScenarioStore.open(reopenDirectory)) {
+            reopen.save("Benchmark", parameters, ScenarioSummary.of(parameters, result), result.schedule());
+        }
+        csvFile = directory.resolve("schedule.csv");
+        new ScheduleCsvExporter().export(csvFile, new String[] {"Month", "Profit", "Charity", "Investment Value"},
+            result.schedule());
+
+        Schedule expected = result.schedule();
+        Schedule actual = store.load(saved);
+        for (int row = 0; row < expected.size(); row++) {
+            for (int column = 1; column <= 3; column++) {
+                if (actual.getMonth(row) != expected.getMonth(row)
+                        || actual.getValue(row, column) != expected.getValue(row, column)) {
+                    throw new IllegalStateException("Row " + row + " column " + column + " read back differently");
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        for (Path dir : List.of(directory, reopenDirectory)) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /** Decodes the saved schedule from the open store. */
+    @Benchmark
+    public double loadFromStore() throws IOException {
+        return show(store.load(saved));
+    }
+
+    /** Opens the store, as after a restart, finds the scenario by name and decodes it. */
+    @Benchmark
+    public double openStoreAndLoad() throws IOException {
+        try (ScenarioStore reopen = ScenarioStore.open(reopenDirectory)) {
+            SavedScenario scenario = reopen.list(s -> s.name().equals("Benchmark")).get(0);
+            return show(reopen.load(scenario));
+        }
+    }
+
+    @Benchmark
+    public double recalculate() {
+        return show(recalculateResult().schedule());
+    }
+
+    /** Reads the CSV export back, which keeps only two decimals. */
+    @Benchmark
+    public double parseCsv() throws IOException {
+        ScheduleColumns columns = new ScheduleColumns(3, months);
+        try (BufferedReader reader = Files.newBufferedReader(csvFile)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split(",");
+                columns.add(Integer.parseInt(fields[0]), Double.parseDouble(fields[1]), Double.parseDouble(fields[2]),
+                    Double.parseDouble(fields[3]));
+            }
+        }
+        return show(columns);
+    }
+
+    /** Investment Calculator scenarios at a monthly rate of 2% or more, from the index alone. */
+    @Benchmark
+    public int listByCalculatorAndRate() {
+        return store.list(s -> s.calculator() == CalculatorType.INVESTMENT && s.parameters().profitPct() >= 2).size();
+    }
+
+    private InvestmentCalculatorResult recalculateResult() {
+        return InvestmentCalculator.compute(Scenarios.INVESTMENT, Scenarios.PROFIT_PCT, Scenarios.CHARITY_PCT, months);
+    }
+
+    /** Puts the schedule in the table model and reads every cell of it. */
+    private double show(Schedule schedule) {
+        tableModel.setSchedule(schedule);
+        Schedule shown = tableModel.getSchedule();
+        double sum = 0;
+        for (int row = 0; row < shown.size(); row++) {
+            sum += shown.getMonth(row);
+            for (int column = 1; column <= shown.getValueColumnCount(); column++) {
+                sum += shown.getValue(row, column);
+            }
+        }
+        return sum;
+    }
+}
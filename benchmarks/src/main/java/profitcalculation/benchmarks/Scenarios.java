@@ -0,0 +1,61 @@
+package profitcalculation.benchmarks;
+
+import profitcalculation.engine.GoalPlanner;
+import profitcalculation.engine.OneTimeInvestment;
+import profitcalculation.model.GoalPlannerModel;
+import profitcalculation.model.InvestmentCalculatorModel;
+import profitcalculation.model.OneTimeInvestmentModel;
+
+/**
+ * Calculator inputs shared by the benchmarks. Goal Planner and One-Time Investment solve for the
+ * month count, so their targets are picked to land exactly on the requested horizon.
+ */
+final class Scenarios {
+    static final double INVESTMENT = 10000;
+    static final double MONTHLY_INVESTMENT = 1000;
+    static final double PROFIT_PCT = 1;
+    static final double CHARITY_PCT = 10;
+
+    private Scenarios() {
+    }
+
+    /** Goal Planner target monthly profit that is first reached in the given month. */
+    static double goalTarget(int months) {
+        double rate = PROFIT_PCT / 100.0;
+        return GoalPlanner.valueAtMonth(months, MONTHLY_INVESTMENT, rate, CHARITY_PCT / 100.0) * rate;
+    }
+
+    /** One-Time Investment target monthly profit that is first reached in the given month. */
+    static double oneTimeTarget(int months) {
+        double rate = PROFIT_PCT / 100;
+        double growth = rate * (1 - CHARITY_PCT / 100);
+        return INVESTMENT * rate * Math.pow(1 + growth, months - 1);
+    }
+
+    static InvestmentCalculatorModel investmentCalculator(int months) {
+        InvestmentCalculatorModel model = new InvestmentCalculatorModel();
+        model.calculate(INVESTMENT, PROFIT_PCT, CHARITY_PCT, months);
+        return model;
+    }
+
+    static GoalPlannerModel goalPlanner(int months) {
+        GoalPlannerModel model = new GoalPlannerModel();
+        model.calculate(goalTarget(months), MONTHLY_INVESTMENT, PROFIT_PCT, CHARITY_PCT);
+        checkHorizon(model.getMonthsRequired(), months);
+        return model;
+    }
+
+    static OneTimeInvestmentModel oneTimeInvestment(int months) {
+        OneTimeInvestmentModel model = new OneTimeInvestmentModel();
+        model.calculate(INVESTMENT, oneTimeTarget(months), PROFIT_PCT, CHARITY_PCT);
+        checkHorizon(model.getMonthsRequired(), months);
+        return model;
+    }
+
+    static void checkHorizon(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalStateException("Scenario solved to " + actual + " months instead of " + expected
+                    + " (limit " + Math.min(GoalPlanner.MAX_MONTHS, OneTimeInvestment.MAX_MONTHS) + ")");
+        }
+    }
+}
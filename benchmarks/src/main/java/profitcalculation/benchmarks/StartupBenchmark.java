@@ -0,0 +1,126 @@
+package profitcalculation.benchmarks;
+
+import java.awt.GraphicsEnvironment;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Cold-start times of the packaged app: each run is a fresh JVM started with
+ * -Dinvestment.startup.probe=true, which prints how long after JVM start the window became
+ * visible and exits. Three setups take turns so that drift on the machine hits them alike:
+ * every tab built up front as the app used to, the first tab only, and the first tab with the
+ * class-data sharing archive the build trains. Without a display the runs stop once the tabs
+ * are built instead of at the visible window.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar profitcalculation.benchmarks.StartupBenchmark \
+ *     [--jar app/target/InvestmentApp-1.0-SNAPSHOT.jar] [--archive app/target/InvestmentApp.jsa] [--runs 10]
+ * </pre>
+ */
+public class StartupBenchmark {
+    /** The cut the lazy tabs and the archive together are expected to make against eager startup. */
+    private static final double TARGET_REDUCTION = 0.40;
+
+    public static void main(String[] args) throws Exception {
+        String jar = "app/target/InvestmentApp-1.0-SNAPSHOT.jar";
+        String archive = "app/target/InvestmentApp.jsa";
+        int runs = 10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--jar" -> jar = args[i + 1];
+                case "--archive" -> archive = args[i + 1];
+                case "--runs" -> runs = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (!new File(jar).isFile()) {
+            throw new IllegalArgumentException("No app jar at " + jar + "; run mvn package first");
+        }
+        boolean withArchive = new File(archive).isFile();
+        if (!withArchive) {
+            System.out.println("No archive at " + archive + ", so only the first two setups run");
+        }
+
+        String[][] setups = {
+            {"-Dinvestment.tabs.eager=true"},
+            {},
+            {"-XX:SharedArchiveFile=" + archive}
+        };
+        String[] names = {"eager tabs", "lazy tabs", "lazy tabs + CDS"};
+        int count = withArchive ? setups.length : 2;
+        long[][] times = new long[count][runs];
+        String event = null;
+        for (int s = 0; s < count; s++) {
+            // One unmeasured start each, so the jar and archive are in the page cache
+            launch(jar, setups[s]);
+        }
+        for (int run = 0; run < runs; run++) {
+            for (int s = 0; s < count; s++) {
+                Launch launch = launch(jar, setups[s]);
+                times[s][run] = launch.millis;
+                event = launch.event;
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%d runs each, ms from JVM start until \"%s\"%n", runs, event);
+        double baseline = median(times[0]);
+        for (int s = 0; s < count; s++) {
+            long[] sorted = times[s].clone();
+            Arrays.sort(sorted);
+            double median = median(times[s]);
+            System.out.printf(Locale.ROOT, "%-16s median %6.0f  min %5d  max %5d  %+.0f%%%n",
+                names[s], median, sorted[0], sorted[sorted.length - 1], (median / baseline - 1) * 100);
+        }
+        double best = median(times[count - 1]);
+        boolean met = best <= baseline * (1 - TARGET_REDUCTION);
+        System.out.printf(Locale.ROOT, "target %.0f%% below eager startup: %s%n",
+            TARGET_REDUCTION * 100, met ? "met" : "not met");
+    }
+
+    private record Launch(long millis, String event) {
+    }
+
+    /** Starts the app once and reads the time it reports. */
+    private static Launch launch(String jar, String[] options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(Arrays.asList(options));
+        command.add("-Dinvestment.startup.probe=true");
+        if (GraphicsEnvironment.isHeadless()) {
+            command.add("-Djava.awt.headless=true");
+        }
+        command.add("-jar");
+        command.add(jar);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String report = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.endsWith(" ms") && line.contains(" after ")) {
+                    report = line;
+                }
+            }
+        }
+        int exit = process.waitFor();
+        if (report == null || exit != 0) {
+            throw new IllegalStateException("The app exited with " + exit + " without reporting its startup: " + command);
+        }
+        int after = report.lastIndexOf(" after ");
+        long millis = Long.parseLong(report.substring(after + 7, report.length() - 3));
+        return new Launch(millis, report.substring(0, after));
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+}
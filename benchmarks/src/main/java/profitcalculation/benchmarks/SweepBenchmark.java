@@ -0,0 +1,62 @@
+package profitcalculation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import profitcalculation.engine.ParameterSweep;
+import profitcalculation.engine.SweepAxis;
+import profitcalculation.engine.SweepResult;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/** Sensitivity sweep over a profit % x charity % x months grid, on the common pool and on one thread. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SweepBenchmark {
+    /** Profit x charity x months steps. */
+    @Param({"20x20x12", "200x200x60"})
+    public String grid;
+
+    private SweepAxis profitAxis;
+    private SweepAxis charityAxis;
+    private SweepAxis monthsAxis;
+    private ForkJoinPool singleThread;
+
+    @Setup
+    public void setUp() {
+        String[] steps = grid.split("x");
+        profitAxis = new SweepAxis(0, 2 * Scenarios.PROFIT_PCT, Integer.parseInt(steps[0]));
+        charityAxis = new SweepAxis(0, 100, Integer.parseInt(steps[1]));
+        monthsAxis = new SweepAxis(1, 600, Integer.parseInt(steps[2]));
+        singleThread = new ForkJoinPool(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public SweepResult commonPool() {
+        return ParameterSweep.run(Scenarios.INVESTMENT, profitAxis, charityAxis, monthsAxis);
+    }
+
+    @Benchmark
+    public SweepResult singleThread() {
+        return ParameterSweep.run(Scenarios.INVESTMENT, profitAxis, charityAxis, monthsAxis, singleThread);
+    }
+}
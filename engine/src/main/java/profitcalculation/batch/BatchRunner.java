@@ -0,0 +1,253 @@
+package profitcalculation.batch;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.engine.FixedPointCalculator;
+import profitcalculation.engine.MoneyRounding;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs a scenario CSV through the calculators without a window and writes one result record per
+ * scenario, in input order.
+ *
+ * <p>A reader thread parses rows and hands them to a fixed worker pool; the future for each row
+ * goes into a bounded queue that this thread drains into the results file. When the writer falls
+ * behind the queue fills and the reader waits, so only about {@code --queue} scenarios are in
+ * memory at once however long the file is.
+ *
+ * <pre>
+ * BatchRunner scenarios.csv[.gz] results.csv[.gz] [--threads N] [--queue N] [--schedules DIR] [--gzip]
+ *             [--rounding half-even|half-up]
+ * </pre>
+ *
+ * Columns are matched by header name, in any order and case: {@code id, calculator, investment,
+ * monthly_investment, target_profit, profit_pct, charity_pct, months, compounding, reporting}. The
+ * calculator is {@code investment}, {@code goal} or {@code onetime}; columns it does not use may
+ * be left out. Investment rows compound and report monthly unless the last two columns say otherwise.
+ * With {@code --rounding} every row runs on the {@link FixedPointCalculator}, which rounds each
+ * month's amounts to 1/10,000 and compounds monthly only.
+ */
+public final class BatchRunner {
+    private static final CSVFormat INPUT_FORMAT = CSVFormat.DEFAULT.builder()
+        .setHeader().setSkipHeaderRecord(true).setIgnoreHeaderCase(true).setTrim(true).build();
+    private static final CSVFormat OUTPUT_FORMAT = CSVFormat.DEFAULT.builder().setRecordSeparator('\n').build();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_INTERVAL = 100_000;
+    private static final Future<String[]> END = CompletableFuture.completedFuture(null);
+
+    private final int threads;
+    private final int queueSize;
+    private final ScenarioRunner runner;
+
+    private int written;
+    private int invalid;
+
+    /** @param scheduleDir where to write a schedule per scenario, or null to write none */
+    public BatchRunner(int threads, int queueSize, Path scheduleDir, boolean gzipSchedules) {
+        this(threads, queueSize, scheduleDir, gzipSchedules, null);
+    }
+
+    /** @param rounding the fixed-point rounding, or null to calculate in floating point */
+    public BatchRunner(int threads, int queueSize, Path scheduleDir, boolean gzipSchedules, MoneyRounding rounding) {
+        if (threads < 1 || queueSize < 1) {
+            throw new IllegalArgumentException("Threads and queue size must be at least 1.");
+        }
+        this.threads = threads;
+        this.queueSize = queueSize;
+        this.runner = new ScenarioRunner(scheduleDir, gzipSchedules, rounding);
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /** Runs the command line and returns the exit code: 0 done, 2 done with invalid rows, 1 failed. */
+    public static int run(String[] args) {
+        Path input = null;
+        Path output = null;
+        Path scheduleDir = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int queueSize = 0;
+        boolean gzip = false;
+        MoneyRounding rounding = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    case "--queue" -> queueSize = Integer.parseInt(value(args, ++i));
+                    case "--schedules" -> scheduleDir = Path.of(value(args, ++i));
+                    case "--gzip" -> gzip = true;
+                    case "--rounding" -> rounding = MoneyRounding.parse(value(args, ++i));
+                    default -> {
+                        if (input == null) {
+                            input = Path.of(args[i]);
+                        } else if (output == null) {
+                            output = Path.of(args[i]);
+                        } else {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                    }
+                }
+            }
+            if (output == null) {
+                throw new IllegalArgumentException("Both a scenario file and a results file are required.");
+            }
+            if (scheduleDir != null) {
+                Files.createDirectories(scheduleDir);
+            }
+            BatchRunner batch = new BatchRunner(threads, queueSize > 0 ? queueSize : threads * 256, scheduleDir, gzip,
+                rounding);
+            long start = System.nanoTime();
+            batch.run(input, output);
+            System.err.printf(Locale.ROOT, "%d scenarios, %d invalid or unreachable, in %.1f s%n",
+                batch.written, batch.invalid, (System.nanoTime() - start) / 1e9);
+            System.err.println("Result cache: " + CalculationCache.stats());
+            return batch.invalid > 0 ? 2 : 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: BatchRunner <scenarios.csv[.gz]> <results.csv[.gz]>"
+                + " [--threads N] [--queue N] [--schedules DIR] [--gzip] [--rounding half-even|half-up]");
+            return 1;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Batch failed: " + e);
+            return 1;
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException(args[i - 1] + " needs a value.");
+        }
+        return args[i];
+    }
+
+    /**
+     * Runs every scenario in {@code input} and writes the results to {@code output}. Either file is
+     * gzip compressed when its name ends in ".gz".
+     */
+    public void run(Path input, Path output) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, new WorkerFactory());
+        BlockingQueue<Future<String[]>> pending = new ArrayBlockingQueue<>(queueSize);
+        AtomicReference<Throwable> readFailure = new AtomicReference<>();
+        Thread reader = new Thread(() -> read(input, workers, pending, readFailure), "batch-reader");
+        reader.setDaemon(true);
+        reader.start();
+        try (Writer writer = openWriter(output)) {
+            CSVPrinter printer = new CSVPrinter(writer, OUTPUT_FORMAT);
+            printer.printRecord((Object[]) ScenarioRunner.RESULT_HEADER);
+            for (Future<String[]> next = pending.take(); next != END; next = pending.take()) {
+                String[] result = next.get();
+                printer.printRecord((Object[]) result);
+                written++;
+                if (!result[2].equals("OK")) {
+                    invalid++;
+                }
+                if (written % PROGRESS_INTERVAL == 0) {
+                    System.err.println(written + " scenarios written");
+                }
+            }
+            printer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException io ? io : new IOException(cause);
+        } finally {
+            reader.interrupt();
+            workers.shutdownNow();
+        }
+        Throwable failure = readFailure.get();
+        if (failure != null) {
+            throw failure instanceof IOException io ? io : new IOException(failure);
+        }
+    }
+
+    /** Parses rows and queues their futures, then the end marker, even when reading fails. */
+    private void read(Path input, ExecutorService workers, BlockingQueue<Future<String[]>> pending,
+                      AtomicReference<Throwable> failure) {
+        try (Reader reader = openReader(input); CSVParser parser = INPUT_FORMAT.parse(reader)) {
+            for (CSVRecord record : parser) {
+                Scenario scenario = new Scenario(parser.getCurrentLineNumber(), field(record, "id"),
+                    field(record, "calculator"), field(record, "investment"), field(record, "monthly_investment"),
+                    field(record, "target_profit"), field(record, "profit_pct"), field(record, "charity_pct"),
+                    field(record, "months"), field(record, "compounding"), field(record, "reporting"));
+                pending.put(workers.submit(() -> runner.run(scenario)));
+            }
+        } catch (InterruptedException e) {
+            // The writer stopped early and nobody is waiting for the rest
+            return;
+        } catch (IOException | RuntimeException e) {
+            failure.set(e);
+        }
+        try {
+            pending.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String field(CSVRecord record, String name) {
+        return record.isMapped(name) && record.isSet(name) ? record.get(name) : null;
+    }
+
+    private static Reader openReader(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (isGzip(file)) {
+            in = new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static Writer openWriter(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (isGzip(file)) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static boolean isGzip(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /** Daemon workers, so a failed batch never keeps the JVM alive. */
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "batch-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
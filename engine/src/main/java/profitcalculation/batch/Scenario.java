@@ -0,0 +1,10 @@
+package profitcalculation.batch;
+
+/**
+ * One row of a scenario file, still as text so it is validated by the worker that runs it.
+ * Fields a calculator does not use may be null.
+ */
+record Scenario(long line, String id, String calculator, String investment, String monthlyInvestment,
+                String targetProfit, String profitPct, String charityPct, String months, String compounding,
+                String reporting) {
+}
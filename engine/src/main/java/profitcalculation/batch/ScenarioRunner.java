@@ -0,0 +1,190 @@
+package profitcalculation.batch;
+
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.GoalPlannerInputs;
+import profitcalculation.engine.GoalPlannerResult;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.MoneyRounding;
+import profitcalculation.engine.NumberParser;
+import profitcalculation.engine.OneTimeInvestmentInputs;
+import profitcalculation.engine.OneTimeInvestmentResult;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.Validated;
+import profitcalculation.export.ScheduleCsvExporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Validates and calculates one scenario and formats its result record. Invalid rows and
+ * unreachable goals become result records too, so one bad row never stops a batch. Numbers are
+ * read with '.' decimals whatever the machine's locale. Safe to use from several threads at once.
+ */
+final class ScenarioRunner {
+    static final String[] RESULT_HEADER = {
+        "id", "calculator", "status", "months", "total_investment", "total_profit", "total_charity",
+        "final_amount", "last_month_profit", "error"
+    };
+
+    private static final String[] INVESTMENT_HEADER = {"Month", "Profit", "Charity", "Investment Value"};
+    private static final String[] GOAL_HEADER = {"Month", "Total Invested", "Investment Value", "Monthly Profit", "Charity"};
+    private static final String[] ONE_TIME_HEADER = {"Month", "Investment Value", "Monthly Profit", "Charity", "Remaining Profit"};
+    // Investment schedule period column by CompoundingFrequency ordinal
+    private static final String[] PERIOD_NAMES = {"Day", "Week", "Month", "Quarter", "Year"};
+    private static final ThreadLocal<DecimalFormat> AMOUNT_FORMAT =
+        ThreadLocal.withInitial(() -> new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.ROOT)));
+
+    private final Path scheduleDir;
+    private final boolean gzip;
+    private final MoneyRounding rounding;
+
+    /**
+     * @param scheduleDir where to write one schedule file per scenario, or null for none
+     * @param rounding the fixed-point rounding, or null to calculate in floating point
+     */
+    ScenarioRunner(Path scheduleDir, boolean gzip, MoneyRounding rounding) {
+        this.scheduleDir = scheduleDir;
+        this.gzip = gzip;
+        this.rounding = rounding;
+    }
+
+    String[] run(Scenario scenario) throws IOException {
+        String calculator = scenario.calculator() == null ? "" : scenario.calculator().trim().toLowerCase(Locale.ROOT);
+        try {
+            switch (calculator) {
+                case "investment":
+                    return investment(scenario);
+                case "goal":
+                    return goal(scenario);
+                case "onetime":
+                    return oneTime(scenario);
+                default:
+                    return invalid(scenario, List.of("Calculator must be investment, goal or onetime."));
+            }
+        } catch (IllegalArgumentException e) {
+            // Values the fixed-point calculators cannot take
+            return invalid(scenario, List.of(e.getMessage()));
+        }
+    }
+
+    private String[] investment(Scenario scenario) throws IOException {
+        Validated<InvestmentInputs> inputs = InvestmentInputs.parse(NumberParser.ROOT, scenario.investment(),
+            scenario.profitPct(), scenario.charityPct(), scenario.months());
+        List<String> errors = new ArrayList<>(inputs.errors());
+        CompoundingFrequency compounding = frequency(scenario.compounding(), "Compounding", errors);
+        CompoundingFrequency reporting = frequency(scenario.reporting(), "Reporting", errors);
+        if (!errors.isEmpty()) {
+            return invalid(scenario, errors);
+        }
+        InvestmentInputs values = inputs.value();
+        InvestmentCalculatorResult result = CalculationCache.get(CalculationKey.investment(values.investment(),
+            values.profitPct(), values.charityPct(), values.months(), compounding, reporting, rounding));
+        String[] header = INVESTMENT_HEADER.clone();
+        header[0] = PERIOD_NAMES[reporting.ordinal()];
+        writeSchedule(scenario, header, result.schedule());
+        int rows = result.schedule().size();
+        String lastMonthProfit = rows > 0 ? amount(result.schedule().getValue(rows - 1, 1)) : "";
+        return record(scenario, "OK", values.months(), amount(values.investment()), amount(result.totalProfit()),
+            amount(result.totalCharity()), amount(result.finalAmount()), lastMonthProfit, "");
+    }
+
+    private String[] goal(Scenario scenario) throws IOException {
+        Validated<GoalPlannerInputs> inputs = GoalPlannerInputs.parse(NumberParser.ROOT, scenario.targetProfit(),
+            scenario.monthlyInvestment(), scenario.profitPct(), scenario.charityPct());
+        if (!inputs.isValid()) {
+            return invalid(scenario, inputs.errors());
+        }
+        GoalPlannerInputs values = inputs.value();
+        GoalPlannerResult result = CalculationCache.get(CalculationKey.goalPlanner(values.targetProfit(),
+            values.monthlyInvestment(), values.profitPct(), values.charityPct(), scheduleDir != null, rounding));
+        if (result == null) {
+            return unreachable(scenario);
+        }
+        writeSchedule(scenario, GOAL_HEADER, result.schedule());
+        return record(scenario, "OK", result.monthsRequired(), amount(result.totalInvestment()), "", "",
+            amount(result.finalInvestmentValue()), amount(result.lastMonthProfit()), "");
+    }
+
+    private String[] oneTime(Scenario scenario) throws IOException {
+        Validated<OneTimeInvestmentInputs> inputs = OneTimeInvestmentInputs.parse(NumberParser.ROOT,
+            scenario.investment(), scenario.targetProfit(), scenario.profitPct(), scenario.charityPct());
+        if (!inputs.isValid()) {
+            return invalid(scenario, inputs.errors());
+        }
+        OneTimeInvestmentInputs values = inputs.value();
+        double profitPct = values.profitPct();
+        double charityPct = values.charityPct();
+        // Rounded profits cannot be worked back from the final amount, so they need the schedule
+        OneTimeInvestmentResult result = CalculationCache.get(CalculationKey.oneTimeInvestment(values.investment(),
+            values.targetProfit(), profitPct, charityPct, scheduleDir != null || rounding != null, rounding));
+        if (result == null) {
+            return unreachable(scenario);
+        }
+        writeSchedule(scenario, ONE_TIME_HEADER, result.schedule());
+        double lastMonthProfit;
+        if (rounding != null) {
+            lastMonthProfit = result.schedule().getValue(result.schedule().size() - 1, 2);
+        } else {
+            // The investment value grows by the kept profit, so the last month started at final / g
+            double growth = 1 + profitPct / 100 * (1 - charityPct / 100);
+            lastMonthProfit = result.finalAmount() / growth * profitPct / 100;
+        }
+        return record(scenario, "OK", result.monthsRequired(), amount(result.oneTimeInvestment()),
+            amount(result.totalProfit()), amount(result.totalCharity()), amount(result.finalAmount()),
+            amount(lastMonthProfit), "");
+    }
+
+    /** The frequency in the column, monthly when it is empty, or null after noting an unknown name. */
+    private static CompoundingFrequency frequency(String text, String fieldName, List<String> errors) {
+        try {
+            return CompoundingFrequency.parse(text);
+        } catch (IllegalArgumentException e) {
+            errors.add(fieldName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSchedule(Scenario scenario, String[] header, Schedule schedule) throws IOException {
+        if (scheduleDir != null) {
+            new ScheduleCsvExporter().export(scheduleDir.resolve(fileName(scenario)), header, schedule);
+        }
+    }
+
+    /** The scenario id made safe for a file name, or its line number when it has no id. */
+    private String fileName(Scenario scenario) {
+        String id = scenario.id() == null ? "" : scenario.id().trim();
+        String base = id.isEmpty() ? "line-" + scenario.line() : id.replaceAll("[^A-Za-z0-9._-]", "_");
+        return base + (gzip ? ".csv.gz" : ".csv");
+    }
+
+    private String[] invalid(Scenario scenario, List<String> errors) {
+        return record(scenario, "INVALID", -1, "", "", "", "", "", String.join(" ", errors));
+    }
+
+    private String[] unreachable(Scenario scenario) {
+        return record(scenario, "UNREACHABLE", -1, "", "", "", "", "",
+            "The target monthly profit can never be reached with these values.");
+    }
+
+    private static String[] record(Scenario scenario, String status, int months, String totalInvestment,
+                                   String totalProfit, String totalCharity, String finalAmount,
+                                   String lastMonthProfit, String error) {
+        return new String[] {
+            scenario.id() == null ? "" : scenario.id(), scenario.calculator() == null ? "" : scenario.calculator(),
+            status, months < 0 ? "" : Integer.toString(months), totalInvestment, totalProfit, totalCharity,
+            finalAmount, lastMonthProfit, error
+        };
+    }
+
+    private static String amount(double value) {
+        return AMOUNT_FORMAT.get().format(value);
+    }
+}
@@ -0,0 +1,139 @@
+package profitcalculation.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe least-recently-used cache bounded by the approximate bytes its entries retain
+ * rather than by their count, so one long schedule can push out many small summaries.
+ *
+ * <p>Entries are spread over independently locked segments, each holding an equal share of the
+ * byte budget, so lookups from different threads rarely wait on each other. Values are loaded
+ * outside any lock; two threads missing the same key at once may both load it, which is harmless
+ * for the immutable results kept here. Null values are never stored.
+ */
+public final class BoundedCache<K, V> {
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final long maxBytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxBytes approximate bytes the entries may retain in total
+     * @param weigher  estimates the bytes retained by one entry, key included
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(long maxBytes, ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maxBytes < SEGMENTS) {
+            throw new IllegalArgumentException("maxBytes must be at least " + SEGMENTS);
+        }
+        this.maxBytes = maxBytes;
+        this.weigher = weigher;
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(maxBytes / SEGMENTS);
+        }
+    }
+
+    /** The cached value, or null on a miss. Counts as a hit or a miss. */
+    public V get(K key) {
+        V value = segmentFor(key).get(key);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /** The cached value, or the loader's result, which is cached unless it is null. */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /** Stores a value, evicting the least recently used entries of its segment as needed. */
+    public void put(K key, V value) {
+        long weight = weigher.applyAsLong(key, value);
+        evictions.add(segmentFor(key).put(key, value, weight));
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public CacheStats stats() {
+        long entries = 0;
+        long bytes = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                entries += segment.entries.size();
+                bytes += segment.bytes;
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries, bytes, maxBytes);
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private record Weighted<V>(V value, long weight) {
+    }
+
+    private static final class Segment<K, V> {
+        private final long maxBytes;
+        private final LinkedHashMap<K, Weighted<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        Segment(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized V get(K key) {
+            Weighted<V> entry = entries.get(key);
+            return entry == null ? null : entry.value();
+        }
+
+        /** Returns how many entries were evicted; a value bigger than the whole segment is not kept. */
+        synchronized int put(K key, V value, long weight) {
+            Weighted<V> previous = entries.remove(key);
+            if (previous != null) {
+                bytes -= previous.weight();
+            }
+            if (weight > maxBytes) {
+                return 0;
+            }
+            entries.put(key, new Weighted<>(value, weight));
+            bytes += weight;
+
+            int evicted = 0;
+            Iterator<Weighted<V>> eldest = entries.values().iterator();
+            while (bytes > maxBytes) {
+                bytes -= eldest.next().weight();
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+}
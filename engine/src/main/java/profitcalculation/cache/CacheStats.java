@@ -0,0 +1,19 @@
+package profitcalculation.cache;
+
+import java.util.Locale;
+
+/** Counters of a {@link BoundedCache} since it was created, and what it holds right now. */
+public record CacheStats(long hits, long misses, long evictions, long entries, long estimatedBytes, long maxBytes) {
+    /** Share of lookups that were hits, or 0 before the first lookup. */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d hits, %d misses (%.1f%% hit rate), %d evictions, "
+            + "%d entries, about %d of %d KB", hits, misses, hitRate() * 100, evictions, entries,
+            estimatedBytes / 1024, maxBytes / 1024);
+    }
+}
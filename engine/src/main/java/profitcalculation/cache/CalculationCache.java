@@ -0,0 +1,72 @@
+package profitcalculation.cache;
+
+import profitcalculation.engine.GoalPlannerResult;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.OneTimeInvestmentResult;
+import profitcalculation.engine.Schedule;
+
+/**
+ * The one cache of calculator results shared by the forms, the batch runner and the service.
+ * Results are immutable, so the same instance can be handed to any thread. Unreachable targets
+ * are not cached; finding that out is cheap.
+ *
+ * <p>The budget is 64 MB of estimated result data, or the number of bytes in the system property
+ * {@code investment.cache.maxBytes}.
+ */
+public final class CalculationCache {
+    private static final long MAX_BYTES = Long.getLong("investment.cache.maxBytes", 64L * 1024 * 1024);
+    private static final long RESULT_BYTES = 96;
+
+    private static final BoundedCache<CalculationKey<?>, Object> CACHE =
+        new BoundedCache<>(MAX_BYTES, CalculationCache::estimatedBytes);
+
+    private CalculationCache() {
+    }
+
+    /** The cached result, or null when it has not been calculated recently. */
+    @SuppressWarnings("unchecked")
+    public static <R> R getIfPresent(CalculationKey<R> key) {
+        return (R) CACHE.get(key);
+    }
+
+    /**
+     * The cached result, or calculates and caches it on the calling thread.
+     * Returns null when the target can never be reached.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R get(CalculationKey<R> key) {
+        return (R) CACHE.computeIfAbsent(key, CalculationKey::calculate);
+    }
+
+    /**
+     * Calculates and caches a result without looking it up first, for callers that already missed
+     * with {@link #getIfPresent} and moved the work to another thread.
+     */
+    public static <R> R calculate(CalculationKey<R> key) {
+        R result = key.calculate();
+        if (result != null) {
+            CACHE.put(key, result);
+        }
+        return result;
+    }
+
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static long estimatedBytes(CalculationKey<?> key, Object result) {
+        Schedule schedule = null;
+        if (result instanceof InvestmentCalculatorResult investment) {
+            schedule = investment.schedule();
+        } else if (result instanceof GoalPlannerResult goal) {
+            schedule = goal.schedule();
+        } else if (result instanceof OneTimeInvestmentResult oneTime) {
+            schedule = oneTime.schedule();
+        }
+        return key.estimatedBytes() + RESULT_BYTES + (schedule == null ? 0 : schedule.estimatedBytes());
+    }
+}
@@ -0,0 +1,144 @@
+package profitcalculation.cache;
+
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.FixedPointCalculator;
+import profitcalculation.engine.GoalPlanner;
+import profitcalculation.engine.GoalPlannerResult;
+import profitcalculation.engine.InvestmentCalculator;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.MoneyRounding;
+import profitcalculation.engine.OneTimeInvestment;
+import profitcalculation.engine.OneTimeInvestmentResult;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Identifies one calculation by calculator and parsed inputs, and knows how to run it. Inputs are
+ * normalized so that values that calculate the same, such as -0 and 0, share an entry. Asking for
+ * the schedule is part of the key, since a summary-only result has none, and so is the rounding of
+ * the fixed-point calculators, with no rounding meaning the floating-point ones.
+ *
+ * @param <R> the calculator's result type
+ */
+public final class CalculationKey<R> {
+    private final CalculatorType calculator;
+    private final boolean withSchedule;
+    private final double[] inputs;
+    private final int hash;
+    private final Supplier<R> calculation;
+
+    private CalculationKey(CalculatorType calculator, boolean withSchedule, double[] inputs, Supplier<R> calculation) {
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] == 0) {
+                inputs[i] = 0.0;
+            }
+        }
+        this.calculator = calculator;
+        this.withSchedule = withSchedule;
+        this.inputs = inputs;
+        this.hash = 31 * (31 * calculator.hashCode() + Boolean.hashCode(withSchedule)) + Arrays.hashCode(inputs);
+        this.calculation = calculation;
+    }
+
+    /** Investment Calculator; its schedule is computed on demand, so it is always included. */
+    public static CalculationKey<InvestmentCalculatorResult> investment(double investment, double profitPct,
+                                                                        double charityPct, int months) {
+        return investment(investment, profitPct, charityPct, months, CompoundingFrequency.MONTHLY,
+            CompoundingFrequency.MONTHLY);
+    }
+
+    public static CalculationKey<InvestmentCalculatorResult> investment(double investment, double profitPct,
+                                                                        double charityPct, int months,
+                                                                        CompoundingFrequency compounding,
+                                                                        CompoundingFrequency reporting) {
+        return investment(investment, profitPct, charityPct, months, compounding, reporting, null);
+    }
+
+    /**
+     * @param rounding the fixed-point rounding, or null for floating point
+     * @throws IllegalArgumentException if fixed point is asked for with other than monthly periods
+     */
+    public static CalculationKey<InvestmentCalculatorResult> investment(double investment, double profitPct,
+                                                                        double charityPct, int months,
+                                                                        CompoundingFrequency compounding,
+                                                                        CompoundingFrequency reporting,
+                                                                        MoneyRounding rounding) {
+        if (rounding != null && (compounding != CompoundingFrequency.MONTHLY || reporting != CompoundingFrequency.MONTHLY)) {
+            throw new IllegalArgumentException("Exact rounding compounds and reports monthly only.");
+        }
+        return new CalculationKey<>(CalculatorType.INVESTMENT, true,
+            new double[] {investment, profitPct, charityPct, months, compounding.ordinal(), reporting.ordinal(),
+                ordinal(rounding)},
+            rounding == null
+                ? () -> InvestmentCalculator.compute(investment, profitPct, charityPct, months, compounding, reporting)
+                : () -> FixedPointCalculator.investment(investment, profitPct, charityPct, months, rounding, true));
+    }
+
+    public static CalculationKey<GoalPlannerResult> goalPlanner(double targetProfit, double monthlyInvest,
+                                                                double ratePct, double charityPct, boolean withSchedule) {
+        return goalPlanner(targetProfit, monthlyInvest, ratePct, charityPct, withSchedule, null);
+    }
+
+    /** @param rounding the fixed-point rounding, or null for floating point */
+    public static CalculationKey<GoalPlannerResult> goalPlanner(double targetProfit, double monthlyInvest,
+                                                                double ratePct, double charityPct, boolean withSchedule,
+                                                                MoneyRounding rounding) {
+        return new CalculationKey<>(CalculatorType.GOAL_PLANNER, withSchedule,
+            new double[] {targetProfit, monthlyInvest, ratePct, charityPct, ordinal(rounding)},
+            rounding == null
+                ? () -> GoalPlanner.compute(targetProfit, monthlyInvest, ratePct, charityPct, withSchedule)
+                : () -> FixedPointCalculator.goalPlanner(targetProfit, monthlyInvest, ratePct, charityPct, rounding,
+                    withSchedule));
+    }
+
+    public static CalculationKey<OneTimeInvestmentResult> oneTimeInvestment(double oneTimeInvestment, double targetProfit,
+                                                                            double monthlyProfitRate, double charityRate,
+                                                                            boolean withSchedule) {
+        return oneTimeInvestment(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate, withSchedule, null);
+    }
+
+    /** @param rounding the fixed-point rounding, or null for floating point */
+    public static CalculationKey<OneTimeInvestmentResult> oneTimeInvestment(double oneTimeInvestment, double targetProfit,
+                                                                            double monthlyProfitRate, double charityRate,
+                                                                            boolean withSchedule, MoneyRounding rounding) {
+        return new CalculationKey<>(CalculatorType.ONE_TIME_INVESTMENT, withSchedule,
+            new double[] {oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate, ordinal(rounding)},
+            rounding == null
+                ? () -> OneTimeInvestment.compute(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate,
+                    withSchedule)
+                : () -> FixedPointCalculator.oneTimeInvestment(oneTimeInvestment, targetProfit, monthlyProfitRate,
+                    charityRate, rounding, withSchedule));
+    }
+
+    private static int ordinal(MoneyRounding rounding) {
+        return rounding == null ? -1 : rounding.ordinal();
+    }
+
+    /** Runs the calculation; null when its target can never be reached. */
+    R calculate() {
+        return calculation.get();
+    }
+
+    /** Bytes this key keeps alive while it is cached, its captured inputs included. */
+    long estimatedBytes() {
+        return 96 + 16L * inputs.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CalculationKey<?> key && key.hash == hash && key.calculator == calculator
+            && key.withSchedule == withSchedule && Arrays.equals(key.inputs, inputs);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return calculator + Arrays.toString(inputs) + (withSchedule ? " with schedule" : "");
+    }
+}
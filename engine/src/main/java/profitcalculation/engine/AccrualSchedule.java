@@ -0,0 +1,90 @@
+package profitcalculation.engine;
+
+/**
+ * Schedule of a lump sum compounding at any {@link CompoundingFrequency}, reported in periods of
+ * another, for example monthly rows of daily accrual. Each row sums the profit credited in the
+ * compounding periods that end inside it, so a quarter's profit appears in the month it is
+ * credited. Rows are computed when read, each by jumping straight to its first compounding
+ * period, so 30 years of daily accrual costs nothing until the rows are looked at.
+ * Columns are Profit, Charity and Investment Value at the end of the row; the month column holds
+ * the row's period number. Immutable and safe to read from any thread.
+ */
+public class AccrualSchedule implements Schedule {
+    private final double principal;
+    private final double periodRate;
+    private final double charityRate;
+    private final double growth;
+    private final CompoundingFrequency compounding;
+    private final CompoundingFrequency reporting;
+    private final long totalPeriods;
+    private final int rows;
+
+    public AccrualSchedule(double principal, double profitPct, double charityPct, int months,
+                           CompoundingFrequency compounding, CompoundingFrequency reporting) {
+        this.principal = principal;
+        this.periodRate = compounding.periodRate(profitPct);
+        this.charityRate = charityPct / 100;
+        this.growth = periodRate * (1 - charityRate);
+        this.compounding = compounding;
+        this.reporting = reporting;
+        this.totalPeriods = compounding.periodsIn(months);
+        // A last, shorter row covers the months left over after whole reporting periods
+        long reportingPeriods = (long) months * reporting.getPeriodsPerYear();
+        long rowCount = (reportingPeriods + 11) / 12;
+        if (rowCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A schedule of " + rowCount + " rows is too large.");
+        }
+        this.rows = (int) rowCount;
+    }
+
+    public CompoundingFrequency getReporting() {
+        return reporting;
+    }
+
+    @Override
+    public int size() { return rows; }
+
+    @Override
+    public int getValueColumnCount() { return 3; }
+
+    @Override
+    public int getMonth(int row) { return row + 1; }
+
+    @Override
+    public double getValue(int row, int column) {
+        long first = periodsBefore(row);
+        long end = periodsBefore(row + 1);
+        switch (column) {
+            case 1:
+                return profit(first, end);
+            case 2:
+                return profit(first, end) * charityRate;
+            default:
+                return principal * (1 + Compounding.powerMinusOne(growth, end));
+        }
+    }
+
+    /** Constant size: nothing is stored per row. */
+    @Override
+    public long estimatedBytes() {
+        return 96;
+    }
+
+    /** Compounding periods completed before the given reporting row starts. */
+    private long periodsBefore(int row) {
+        long periods = (long) row * compounding.getPeriodsPerYear() / reporting.getPeriodsPerYear();
+        return Math.min(periods, totalPeriods);
+    }
+
+    /** Profit before charity credited in compounding periods [first, end): P r g^first (g^n - 1) / (g - 1). */
+    private double profit(long first, long end) {
+        long count = end - first;
+        if (count == 0) {
+            return 0;
+        }
+        double start = principal * (1 + Compounding.powerMinusOne(growth, first));
+        return growth == 0
+                ? start * periodRate * count
+                : start * periodRate * Compounding.powerMinusOne(growth, count) / growth;
+    }
+}
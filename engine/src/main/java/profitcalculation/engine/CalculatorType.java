@@ -0,0 +1,32 @@
+package profitcalculation.engine;
+
+import java.util.Locale;
+
+/** The app's three calculators, named as in scenario files and the JSON service's paths. */
+public enum CalculatorType {
+    INVESTMENT("investment"),
+    GOAL_PLANNER("goal"),
+    ONE_TIME_INVESTMENT("onetime");
+
+    private final String id;
+
+    CalculatorType(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /** Parses "investment", "goal" or "onetime" in any case. */
+    public static CalculatorType parse(String text) {
+        String id = text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+        for (CalculatorType type : values()) {
+            if (type.id.equals(id)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown calculator \"" + (text == null ? "" : text.trim())
+            + "\"; use investment, goal or onetime.");
+    }
+}
@@ -0,0 +1,30 @@
+package profitcalculation.engine;
+
+/** Jump-ahead arithmetic for compound growth over any number of periods. */
+public final class Compounding {
+    private Compounding() {
+    }
+
+    /**
+     * (1 + x)^n - 1 by exponentiation by squaring, in O(log n) multiplications. The excess over 1
+     * is carried instead of the power itself, using (1 + a)(1 + b) - 1 = a + b + ab, so small
+     * rates keep their precision the way {@link Math#expm1} does rather than cancelling against 1.
+     */
+    public static double powerMinusOne(double x, long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        double result = 0;
+        double square = x;
+        while (n > 0) {
+            if ((n & 1) != 0) {
+                result = result + square + result * square;
+            }
+            n >>>= 1;
+            if (n > 0) {
+                square = square + square + square * square;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package profitcalculation.engine;
+
+import java.util.Locale;
+
+/**
+ * How often profit is credited to an investment, and the periods a schedule can be reported in.
+ * The entered monthly rate is treated as a nominal rate, so each period earns it scaled by the
+ * period's share of a month: a day earns 12/365 of it, a quarter three times it.
+ */
+public enum CompoundingFrequency {
+    DAILY(365),
+    WEEKLY(52),
+    MONTHLY(12),
+    QUARTERLY(4),
+    ANNUALLY(1);
+
+    private final int periodsPerYear;
+
+    CompoundingFrequency(int periodsPerYear) {
+        this.periodsPerYear = periodsPerYear;
+    }
+
+    public int getPeriodsPerYear() {
+        return periodsPerYear;
+    }
+
+    /** Whole periods completed within the given number of months. */
+    public long periodsIn(int months) {
+        return (long) months * periodsPerYear / 12;
+    }
+
+    /** Rate earned per period, as a fraction, for a nominal monthly rate in percent. */
+    public double periodRate(double monthlyRatePct) {
+        return monthlyRatePct / 100 * 12 / periodsPerYear;
+    }
+
+    /** Parses a name such as "daily" in any case; null or blank means {@link #MONTHLY}. */
+    public static CompoundingFrequency parse(String text) {
+        if (text == null || text.isBlank()) {
+            return MONTHLY;
+        }
+        try {
+            return valueOf(text.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown frequency \"" + text.trim()
+                + "\"; use daily, weekly, monthly, quarterly or annually.");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package profitcalculation.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schedule of a lump sum compounding monthly, computed row by row on demand instead of stored.
+ * The value before month i + 1 is P * g^i with g = 1 + r(1 - c), so memory stays constant however
+ * long the horizon is. Columns are Profit, Charity and Investment Value after the month.
+ */
+public class CompoundingSchedule implements Schedule {
+    private static final int CACHED_ROWS = 256;
+
+    private final double principal;
+    private final double rate;
+    private final double charityRate;
+    private final double logGrowth;
+    private final int months;
+    private final Map<Integer, double[]> recentRows = new LinkedHashMap<>(CACHED_ROWS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, double[]> eldest) {
+            return size() > CACHED_ROWS;
+        }
+    };
+
+    public CompoundingSchedule(double principal, double profitPct, double charityPct, int months) {
+        this.principal = principal;
+        this.rate = profitPct / 100;
+        this.charityRate = charityPct / 100;
+        this.logGrowth = Math.log1p(rate * (1 - charityRate));
+        this.months = months;
+    }
+
+    /** Investment value after the given number of months. */
+    public double valueAfter(int month) {
+        return principal * Math.exp(month * logGrowth);
+    }
+
+    @Override
+    public int size() { return months; }
+
+    @Override
+    public int getValueColumnCount() { return 3; }
+
+    @Override
+    public int getMonth(int row) { return row + 1; }
+
+    @Override
+    public double getValue(int row, int column) {
+        return row(row)[column - 1];
+    }
+
+    /** At most {@link #CACHED_ROWS} rows are ever held, each a small array plus its map entry. */
+    @Override
+    public long estimatedBytes() {
+        return 256 + (long) Math.min(months, CACHED_ROWS) * 120;
+    }
+
+    private synchronized double[] row(int row) {
+        double[] values = recentRows.get(row);
+        if (values == null) {
+            double profit = valueAfter(row) * rate;
+            values = new double[]{profit, profit * charityRate, valueAfter(row + 1)};
+            recentRows.put(row, values);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,76 @@
+package profitcalculation.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the fields of one form, each exactly once, with the rules every entry point shares:
+ * values are required and non-negative, percentages are at most 100 and counts are whole.
+ * Collects a message per rejected field instead of stopping at the first.
+ */
+final class FieldReader {
+    private final NumberParser parser;
+    private List<String> errors;
+
+    FieldReader(NumberParser parser) {
+        this.parser = parser;
+    }
+
+    /** A required, non-negative number; grouping separators are allowed. */
+    double number(String text, String fieldName) {
+        if (text == null || text.isBlank()) {
+            return reject(fieldName + " is required.");
+        }
+        double number = parser.parse(text);
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return reject(fieldName + " must be a valid number.");
+        }
+        if (number < 0) {
+            return reject(fieldName + " cannot be negative.");
+        }
+        return number;
+    }
+
+    /** A number as for {@link #number} that is at most 100. */
+    double percentage(String text, String fieldName) {
+        double percentage = number(text, fieldName);
+        if (percentage > 100) {
+            return reject(fieldName + " cannot be greater than 100%.");
+        }
+        return percentage;
+    }
+
+    /** A number as for {@link #number} without a fractional part that is at most {@code max}. */
+    int wholeNumber(String text, String fieldName, int max) {
+        double number = number(text, fieldName);
+        if (Double.isNaN(number)) {
+            return 0;
+        }
+        if (number != Math.floor(number)) {
+            reject(fieldName + " must be a whole number.");
+            return 0;
+        }
+        if (number > max) {
+            reject(fieldName + " cannot be greater than " + max + ".");
+            return 0;
+        }
+        return (int) number;
+    }
+
+    boolean isValid() {
+        return errors == null;
+    }
+
+    /** The messages collected so far, for a form with a rejected field. */
+    <T> Validated<T> invalid() {
+        return new Validated<>(null, errors);
+    }
+
+    private double reject(String message) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        errors.add(message);
+        return Double.NaN;
+    }
+}
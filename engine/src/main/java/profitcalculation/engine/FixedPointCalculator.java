@@ -0,0 +1,223 @@
+package profitcalculation.engine;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CancellationException;
+
+/**
+ * The three calculators in exact decimal money. Amounts are longs in minor units of 1/10,000 of
+ * the currency and rates are exact to 1e-8, so percentages keep six decimal places. Each month's
+ * profit and then its charity are rounded to a whole unit before they are added, which gives the
+ * same units, to the last one, as BigDecimal arithmetic at scale 4 with the same rounding.
+ *
+ * <p>The monthly loops allocate nothing: a product needs one multiply and one division by a
+ * constant while it fits in a long, and only larger balances take a slower split path. Results
+ * hold amounts as the nearest double to the unit count, which prints back exactly below about
+ * 10^11 in the currency. Holds no state, so it can run on any thread.
+ */
+public final class FixedPointCalculator {
+    /** Minor units in one unit of the currency. */
+    public static final long UNITS = 10_000;
+    private static final int UNIT_SCALE = 4;
+    private static final long RATE_UNITS = 100_000_000;
+    // Percentages in the same 1e-8 units of a fraction
+    private static final long PERCENT_UNITS = 1_000_000;
+    private static final int PERCENT_SCALE = 6;
+    private static final double EXACT_LIMIT = 0x1p52;
+
+    private FixedPointCalculator() {
+    }
+
+    /**
+     * As {@link InvestmentCalculator#compute(double, double, double, int)}, compounding monthly.
+     * The schedule is built row by row when asked for and is null otherwise.
+     *
+     * @throws IllegalArgumentException if an amount is negative or outgrows a long
+     * @throws CancellationException if the calling thread is interrupted while running months
+     */
+    public static InvestmentCalculatorResult investment(double investment, double profitPct, double charityPct,
+                                                        int numMonths, MoneyRounding rounding, boolean withSchedule) {
+        boolean halfEven = rounding == MoneyRounding.HALF_EVEN;
+        long value = toUnits(investment, rounding);
+        long rate = toRate(profitPct, rounding);
+        long charityRate = toRate(charityPct, rounding);
+        ScheduleColumns columns = withSchedule ? new ScheduleColumns(3, numMonths) : null;
+        long totalProfit = 0;
+        long totalCharity = 0;
+        try {
+            for (int month = 1; month <= numMonths; month++) {
+                checkInterrupted(month);
+                long profit = multiply(value, rate, halfEven);
+                long charity = multiply(profit, charityRate, halfEven);
+                value = Math.addExact(value, profit - charity);
+                totalProfit = Math.addExact(totalProfit, profit);
+                totalCharity += charity;
+                if (columns != null) {
+                    columns.add(month, toAmount(profit), toAmount(charity), toAmount(value));
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw tooLarge();
+        }
+        return new InvestmentCalculatorResult(toAmount(totalProfit), toAmount(totalCharity), toAmount(value), columns);
+    }
+
+    /**
+     * As {@link GoalPlanner#compute(double, double, double, double, boolean)}, finding the first
+     * month whose rounded profit reaches the target. Returns null when it is not reached within
+     * {@link GoalPlanner#MAX_MONTHS}.
+     *
+     * @throws IllegalArgumentException if an amount is negative or outgrows a long
+     * @throws CancellationException if the calling thread is interrupted while running months
+     */
+    public static GoalPlannerResult goalPlanner(double targetProfit, double monthlyInvest, double ratePct,
+                                                double charityPct, MoneyRounding rounding, boolean withSchedule) {
+        boolean halfEven = rounding == MoneyRounding.HALF_EVEN;
+        long target = toUnits(targetProfit, rounding);
+        long deposit = toUnits(monthlyInvest, rounding);
+        long rate = toRate(ratePct, rounding);
+        long charityRate = toRate(charityPct, rounding);
+        ScheduleColumns columns = withSchedule ? new ScheduleColumns(4, 0) : null;
+        long value = 0;
+        try {
+            for (int month = 1; month <= GoalPlanner.MAX_MONTHS; month++) {
+                checkInterrupted(month);
+                value = Math.addExact(value, deposit);
+                long profit = multiply(value, rate, halfEven);
+                long charity = multiply(profit, charityRate, halfEven);
+                long invested = Math.multiplyExact(month, deposit);
+                if (columns != null) {
+                    columns.add(month, toAmount(invested), toAmount(value), toAmount(profit), toAmount(charity));
+                }
+                if (profit >= target) {
+                    return new GoalPlannerResult(month, toAmount(invested), toAmount(value), toAmount(profit), columns);
+                }
+                if (deposit == 0 || rate == 0) {
+                    return null;
+                }
+                value = Math.addExact(value, profit - charity);
+            }
+        } catch (ArithmeticException e) {
+            throw tooLarge();
+        }
+        return null;
+    }
+
+    /**
+     * As {@link OneTimeInvestment#compute}, finding the first month whose rounded profit reaches
+     * the target. Returns null when it is not reached within {@link OneTimeInvestment#MAX_MONTHS}.
+     *
+     * @throws IllegalArgumentException if an amount is negative or outgrows a long
+     * @throws CancellationException if the calling thread is interrupted while running months
+     */
+    public static OneTimeInvestmentResult oneTimeInvestment(double oneTimeInvestment, double targetProfit,
+                                                            double monthlyProfitRate, double charityRate,
+                                                            MoneyRounding rounding, boolean withSchedule) {
+        boolean halfEven = rounding == MoneyRounding.HALF_EVEN;
+        long value = toUnits(oneTimeInvestment, rounding);
+        long target = toUnits(targetProfit, rounding);
+        long rate = toRate(monthlyProfitRate, rounding);
+        long charityShare = toRate(charityRate, rounding);
+        ScheduleColumns columns = withSchedule ? new ScheduleColumns(4, 0) : null;
+        long totalProfit = 0;
+        long totalCharity = 0;
+        try {
+            for (int month = 1; month <= OneTimeInvestment.MAX_MONTHS; month++) {
+                checkInterrupted(month);
+                long profit = multiply(value, rate, halfEven);
+                long charity = multiply(profit, charityShare, halfEven);
+                long remaining = profit - charity;
+                if (columns != null) {
+                    columns.add(month, toAmount(value), toAmount(profit), toAmount(charity), toAmount(remaining));
+                }
+                value = Math.addExact(value, remaining);
+                totalProfit = Math.addExact(totalProfit, profit);
+                totalCharity += charity;
+                if (profit >= target) {
+                    return new OneTimeInvestmentResult(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate,
+                            month, toAmount(totalProfit), toAmount(totalCharity), toAmount(value), columns);
+                }
+                if (remaining == 0) {
+                    // The balance no longer grows, so neither will its profit
+                    return null;
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw tooLarge();
+        }
+        return null;
+    }
+
+    /**
+     * {@code units * rate / 10^8} rounded to a whole unit, for non-negative operands. A product
+     * that fits in a long is split with a single division; a larger one is split as
+     * {@code (q * 10^8 + r) * rate} so that neither part overflows.
+     *
+     * @throws ArithmeticException if the result itself does not fit in a long
+     */
+    static long multiply(long units, long rate, boolean halfEven) {
+        long whole;
+        long remainder;
+        long product = units * rate;
+        if (Math.multiplyHigh(units, rate) == 0 && product >= 0) {
+            whole = product / RATE_UNITS;
+            remainder = product - whole * RATE_UNITS;
+        } else {
+            long low = Math.multiplyExact(units % RATE_UNITS, rate);
+            whole = Math.addExact(Math.multiplyExact(units / RATE_UNITS, rate), low / RATE_UNITS);
+            remainder = low % RATE_UNITS;
+        }
+        long twice = remainder << 1;
+        if (twice > RATE_UNITS || twice == RATE_UNITS && (!halfEven || (whole & 1) != 0)) {
+            whole++;
+        }
+        return whole;
+    }
+
+    /** The amount in whole minor units, rounded once as entered. */
+    static long toUnits(double amount, MoneyRounding rounding) {
+        return scaled(amount, UNITS, UNIT_SCALE, rounding);
+    }
+
+    /** A percentage as a fraction in units of 1e-8. */
+    static long toRate(double pct, MoneyRounding rounding) {
+        return scaled(pct, PERCENT_UNITS, PERCENT_SCALE, rounding);
+    }
+
+    static double toAmount(long units) {
+        return units / (double) UNITS;
+    }
+
+    /**
+     * The value in units of 10^-scale, reading the double as the shortest decimal that gives it,
+     * which is what was typed. A value with no more decimals than the scale is the only such
+     * decimal that divides back to the double, so it is found without allocating; others go
+     * through BigDecimal and are rounded.
+     */
+    private static long scaled(double value, long units, int scale, MoneyRounding rounding) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Exact amounts and rates must be non-negative numbers.");
+        }
+        double product = value * units;
+        if (product < EXACT_LIMIT) {
+            long candidate = (long) Math.rint(product);
+            if (candidate / (double) units == value) {
+                return candidate;
+            }
+        }
+        try {
+            return BigDecimal.valueOf(value).setScale(scale, rounding.getMode()).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw tooLarge();
+        }
+    }
+
+    private static void checkInterrupted(int month) {
+        if ((month & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+    }
+
+    private static IllegalArgumentException tooLarge() {
+        return new IllegalArgumentException("Amounts are too large for exact arithmetic.");
+    }
+}
@@ -0,0 +1,122 @@
+package profitcalculation.engine;
+
+import java.util.concurrent.CancellationException;
+
+/** Months of equal deposits needed before a single month's profit reaches a target. */
+public final class GoalPlanner {
+    // Goals that need more than 1000 years are treated as unreachable
+    public static final int MAX_MONTHS = 12000;
+    // The closed form and the monthly sums differ by rounding well within this fraction of the
+    // target, so a month whose profit comes this close is settled by adding up the months
+    private static final double BOUNDARY_TOLERANCE = 1e-9;
+
+    private GoalPlanner() {
+    }
+
+    /**
+     * Solves the goal and builds its monthly breakdown. Holds no state, so it can run on any
+     * thread. Returns null when the goal can never be reached.
+     *
+     * @throws CancellationException if the calling thread is interrupted while building rows
+     */
+    public static GoalPlannerResult compute(double targetProfit, double monthlyInvest, double ratePct, double charityPct) {
+        return compute(targetProfit, monthlyInvest, ratePct, charityPct, true);
+    }
+
+    /**
+     * As {@link #compute(double, double, double, double)}, but only builds the monthly breakdown
+     * when asked for; without it the result's schedule is null.
+     */
+    public static GoalPlannerResult compute(double targetProfit, double monthlyInvest, double ratePct, double charityPct,
+                                            boolean withSchedule) {
+        double rate = ratePct / 100.0;
+        double charityRate = charityPct / 100.0;
+        int months = solveMonthsRequired(targetProfit, monthlyInvest, rate, charityRate);
+        if (months < 0) {
+            return null;
+        }
+
+        double finalInvestmentValue = valueAtMonth(months, monthlyInvest, rate, charityRate);
+        return new GoalPlannerResult(months, months * monthlyInvest, finalInvestmentValue,
+                finalInvestmentValue * rate, withSchedule ? buildSchedule(monthlyInvest, rate, charityRate, months) : null);
+    }
+
+    private static ScheduleColumns buildSchedule(double monthlyInvest, double rate, double charityRate, int months) {
+        ScheduleColumns columns = new ScheduleColumns(4, months);
+        double currentValue = 0;
+        for (int month = 1; month <= months; month++) {
+            if ((month & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            currentValue += monthlyInvest;
+            double profit = currentValue * rate;
+            double charity = profit * charityRate;
+
+            columns.add(month, month * monthlyInvest, currentValue, profit, charity);
+
+            currentValue += profit - charity;
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the first month whose profit reaches the target, or -1 when it is never reached
+     * within {@link #MAX_MONTHS}. The balance after the deposit of month n is the geometric series
+     * m * (g^n - 1) / (g - 1) with g = 1 + r(1 - c), so n follows from a logarithm.
+     */
+    public static int solveMonthsRequired(double targetProfit, double monthlyInvest, double rate, double charityRate) {
+        if (monthlyInvest * rate >= targetProfit) {
+            return 1;
+        }
+        if (monthlyInvest <= 0 || rate <= 0) {
+            return -1;
+        }
+
+        double growth = rate * (1 - charityRate);
+        double requiredValue = targetProfit / rate;
+        double estimate = growth > 0
+                ? Math.log1p(growth * requiredValue / monthlyInvest) / Math.log1p(growth)
+                : requiredValue / monthlyInvest;
+        if (estimate > MAX_MONTHS + 1) {
+            return -1;
+        }
+
+        // The logarithm can land one month off near the boundary, so settle on the exact month
+        int months = Math.max(1, (int) Math.ceil(estimate));
+        while (months > 1 && valueAtMonth(months - 1, monthlyInvest, rate, charityRate) * rate >= targetProfit) {
+            months--;
+        }
+        while (valueAtMonth(months, monthlyInvest, rate, charityRate) * rate < targetProfit) {
+            months++;
+        }
+        double tolerance = targetProfit * BOUNDARY_TOLERANCE;
+        if (valueAtMonth(months, monthlyInvest, rate, charityRate) * rate - targetProfit <= tolerance
+                || targetProfit - valueAtMonth(months - 1, monthlyInvest, rate, charityRate) * rate <= tolerance) {
+            return monthsByAddingUp(targetProfit, monthlyInvest, rate, charityRate);
+        }
+        return months <= MAX_MONTHS ? months : -1;
+    }
+
+    /** The first month whose profit reaches the target, month by month as in the breakdown. */
+    private static int monthsByAddingUp(double targetProfit, double monthlyInvest, double rate, double charityRate) {
+        double currentValue = 0;
+        for (int month = 1; month <= MAX_MONTHS; month++) {
+            currentValue += monthlyInvest;
+            double profit = currentValue * rate;
+            if (profit >= targetProfit) {
+                return month;
+            }
+            currentValue += profit - profit * charityRate;
+        }
+        return -1;
+    }
+
+    /** Investment value after the deposit of the given month, before that month's profit is added. */
+    public static double valueAtMonth(int month, double monthlyInvest, double rate, double charityRate) {
+        double growth = rate * (1 - charityRate);
+        if (growth == 0) {
+            return monthlyInvest * month;
+        }
+        return monthlyInvest * Math.expm1(month * Math.log1p(growth)) / growth;
+    }
+}
@@ -0,0 +1,15 @@
+package profitcalculation.engine;
+
+/** Accepted Goal Planner fields. */
+public record GoalPlannerInputs(double targetProfit, double monthlyInvestment, double profitPct, double charityPct) {
+    /** Parses each field once with the form rules. */
+    public static Validated<GoalPlannerInputs> parse(NumberParser parser, String targetProfit, String monthlyInvestment,
+                                                     String profitPct, String charityPct) {
+        FieldReader reader = new FieldReader(parser);
+        double target = reader.number(targetProfit, "Target Monthly Profit");
+        double deposit = reader.number(monthlyInvestment, "Monthly Investment");
+        double profit = reader.percentage(profitPct, "Monthly Profit Rate");
+        double charity = reader.percentage(charityPct, "Charity Rate");
+        return reader.isValid() ? Validated.valid(new GoalPlannerInputs(target, deposit, profit, charity)) : reader.invalid();
+    }
+}
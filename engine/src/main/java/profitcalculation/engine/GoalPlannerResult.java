@@ -0,0 +1,6 @@
+package profitcalculation.engine;
+
+/** Outcome of a Goal Planner run, ready to be applied to the model in one step. */
+public record GoalPlannerResult(int monthsRequired, double totalInvestment, double finalInvestmentValue,
+                                double lastMonthProfit, Schedule schedule) {
+}
@@ -0,0 +1,53 @@
+package profitcalculation.engine;
+
+/** Compound growth of a single investment over a fixed number of months. */
+public final class InvestmentCalculator {
+    private InvestmentCalculator() {
+    }
+
+    /**
+     * Calculates the totals in closed form and a schedule whose rows are computed only when they
+     * are read. Holds no state, so it can run on any thread.
+     */
+    public static InvestmentCalculatorResult compute(double investment, double profitPct, double charityPct, int numMonths) {
+        CompoundingSchedule schedule = new CompoundingSchedule(investment, profitPct, charityPct, numMonths);
+        double rate = profitPct / 100;
+        double growth = rate * (1 - charityPct / 100);
+        double finalAmount = schedule.valueAfter(numMonths);
+        double totalProfit = totalProfit(investment, rate, growth, Math.log1p(growth), numMonths);
+        double totalCharity = totalProfit * charityPct / 100;
+        return new InvestmentCalculatorResult(totalProfit, totalCharity, finalAmount, schedule);
+    }
+
+    /**
+     * As {@link #compute(double, double, double, int)}, crediting profit at the given frequency
+     * and reporting the schedule in periods of another. The totals jump straight to the last
+     * period with {@link Compounding#powerMinusOne}, so they cost O(log n) however many periods
+     * the horizon holds. Monthly compounding reported monthly gives exactly the plain result.
+     */
+    public static InvestmentCalculatorResult compute(double investment, double profitPct, double charityPct, int numMonths,
+                                                     CompoundingFrequency compounding, CompoundingFrequency reporting) {
+        if (compounding == CompoundingFrequency.MONTHLY && reporting == CompoundingFrequency.MONTHLY) {
+            return compute(investment, profitPct, charityPct, numMonths);
+        }
+        AccrualSchedule schedule = new AccrualSchedule(investment, profitPct, charityPct, numMonths, compounding, reporting);
+        double rate = compounding.periodRate(profitPct);
+        double growth = rate * (1 - charityPct / 100);
+        long periods = compounding.periodsIn(numMonths);
+        double excess = Compounding.powerMinusOne(growth, periods);
+        double totalProfit = growth == 0 ? investment * rate * periods : investment * rate * excess / growth;
+        return new InvestmentCalculatorResult(totalProfit, totalProfit * charityPct / 100, investment * (1 + excess), schedule);
+    }
+
+    /** Investment value after {@code numMonths}, for a log growth of log1p(r(1 - c)). Allocates nothing. */
+    static double finalAmount(double investment, double logGrowth, int numMonths) {
+        return investment * Math.exp(numMonths * logGrowth);
+    }
+
+    /** Total profit before charity: the geometric sum of P * r * g^i over the months. Allocates nothing. */
+    static double totalProfit(double investment, double rate, double growth, double logGrowth, int numMonths) {
+        return growth == 0
+                ? investment * rate * numMonths
+                : investment * rate * Math.expm1(numMonths * logGrowth) / growth;
+    }
+}
@@ -0,0 +1,5 @@
+package profitcalculation.engine;
+
+/** Outcome of an Investment Calculator run, ready to be applied to the model in one step. */
+public record InvestmentCalculatorResult(double totalProfit, double totalCharity, double finalAmount, Schedule schedule) {
+}
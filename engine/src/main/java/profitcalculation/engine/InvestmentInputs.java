@@ -0,0 +1,18 @@
+package profitcalculation.engine;
+
+/** Accepted Investment Calculator fields. */
+public record InvestmentInputs(double investment, double profitPct, double charityPct, int months) {
+    // 1000 years, as for the Goal Planner; daily rows of it still fit a schedule
+    public static final int MAX_MONTHS = 12000;
+
+    /** Parses each field once with the form rules. */
+    public static Validated<InvestmentInputs> parse(NumberParser parser, String investment, String profitPct,
+                                                    String charityPct, String months) {
+        FieldReader reader = new FieldReader(parser);
+        double amount = reader.number(investment, "Investment Amount");
+        double profit = reader.percentage(profitPct, "Monthly Profit");
+        double charity = reader.percentage(charityPct, "Charity Percentage");
+        int monthCount = reader.wholeNumber(months, "Number of Months", MAX_MONTHS);
+        return reader.isValid() ? Validated.valid(new InvestmentInputs(amount, profit, charity, monthCount)) : reader.invalid();
+    }
+}
@@ -0,0 +1,42 @@
+package profitcalculation.engine;
+
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/** How the fixed-point engine rounds each month's profit and charity to a whole minor unit. */
+public enum MoneyRounding {
+    /** Ties go to the even unit, so rounding carries no bias over many months. */
+    HALF_EVEN(RoundingMode.HALF_EVEN),
+    /** Ties go up, as on most printed statements. */
+    HALF_UP(RoundingMode.HALF_UP);
+
+    private final RoundingMode mode;
+
+    MoneyRounding(RoundingMode mode) {
+        this.mode = mode;
+    }
+
+    /** The same rule for {@link java.math.BigDecimal}, which rounds every input amount. */
+    public RoundingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Parses "half-even" (or "bankers") and "half-up" in any case. Null or blank means no
+     * fixed-point rounding and gives null, so callers keep the floating-point calculators.
+     */
+    public static MoneyRounding parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String name = text.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        if (name.equals("BANKERS")) {
+            return HALF_EVEN;
+        }
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown rounding \"" + text.trim() + "\"; use half-even or half-up.");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package profitcalculation.engine;
+
+/**
+ * Per-month balance distribution of a Monte Carlo run, kept as quantile sketches rather than
+ * paths, plus the share of paths that reached the goal by each month when there was one.
+ */
+public final class MonteCarloResult {
+    private final int paths;
+    private final QuantileSketch[] balances;
+    private final long[] reachedBy;
+
+    MonteCarloResult(int paths, QuantileSketch[] balances, long[] firstReached) {
+        this.paths = paths;
+        this.balances = balances;
+        // Turn first-reached counts into running totals
+        this.reachedBy = firstReached;
+        for (int month = 1; month < reachedBy.length; month++) {
+            reachedBy[month] += reachedBy[month - 1];
+        }
+    }
+
+    public int getPaths() { return paths; }
+    public int getMonths() { return balances.length; }
+
+    /** Balance after the given month (1-based) at quantile {@code q}, e.g. 0.05 for P5. */
+    public double quantile(int month, double q) {
+        return balances[month - 1].quantile(q);
+    }
+
+    /** Balance at quantile {@code q} for every month, first month first. */
+    public double[] band(double q) {
+        double[] band = new double[balances.length];
+        for (int i = 0; i < band.length; i++) {
+            band[i] = balances[i].quantile(q);
+        }
+        return band;
+    }
+
+    /** Share of paths, 0 to 1, whose goal was reached in or before the given month. */
+    public double probabilityReachedBy(int month) {
+        return (double) reachedBy[month] / paths;
+    }
+}
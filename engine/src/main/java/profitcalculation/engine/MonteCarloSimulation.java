@@ -0,0 +1,155 @@
+package profitcalculation.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the three calculators with a random profit rate every month. Paths are simulated in
+ * parallel on a fork-join pool, each block of paths drawing from its own {@link SplittableRandom}
+ * split off the seed up front, so a seed gives the same result on any number of threads. Charity
+ * is only taken from positive profit, and a goal counts as reached once the balance would earn
+ * the target profit at the distribution's mean rate.
+ */
+public final class MonteCarloSimulation {
+    /** Relative error of the reported percentiles. */
+    public static final double ACCURACY = 0.005;
+    /** Paths simulated with one random stream; also the smallest unit of parallel work. */
+    private static final int PATHS_PER_STREAM = 256;
+
+    private MonteCarloSimulation() {
+    }
+
+    /** Investment Calculator: a lump sum left to grow for {@code months}. */
+    public static MonteCarloResult investment(double investment, double charityPct, int months,
+                                              ReturnDistribution returns, int paths, long seed) {
+        return run(investment, 0, Double.NaN, charityPct, months, returns, paths, seed);
+    }
+
+    /** Goal Planner: equal monthly deposits until one month's profit would reach {@code targetProfit}. */
+    public static MonteCarloResult goalPlanner(double targetProfit, double monthlyInvest, double charityPct, int months,
+                                               ReturnDistribution returns, int paths, long seed) {
+        return run(0, monthlyInvest, requiredValue(targetProfit, returns), charityPct, months, returns, paths, seed);
+    }
+
+    /** One-Time Investment: a lump sum until one month's profit would reach {@code targetProfit}. */
+    public static MonteCarloResult oneTimeInvestment(double investment, double targetProfit, double charityPct, int months,
+                                                     ReturnDistribution returns, int paths, long seed) {
+        return run(investment, 0, requiredValue(targetProfit, returns), charityPct, months, returns, paths, seed);
+    }
+
+    private static double requiredValue(double targetProfit, ReturnDistribution returns) {
+        return returns.mean() > 0 ? targetProfit / returns.mean() : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Simulates the paths on the common pool and waits for them. Interrupting the waiting thread
+     * stops the workers and throws {@link CancellationException}.
+     */
+    private static MonteCarloResult run(double initial, double deposit, double goalValue, double charityPct, int months,
+                                        ReturnDistribution returns, int paths, long seed) {
+        if (months < 1 || paths < 1) {
+            throw new IllegalArgumentException("Monte Carlo needs at least one month and one path");
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[(paths + PATHS_PER_STREAM - 1) / PATHS_PER_STREAM];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = root.split();
+        }
+
+        Paths task = new Paths(new Model(initial, deposit, goalValue, charityPct / 100, months, returns, paths, streams),
+                0, streams.length, new AtomicBoolean());
+        ForkJoinTask<Totals> submitted = ForkJoinPool.commonPool().submit(task);
+        Totals totals;
+        try {
+            totals = submitted.get();
+        } catch (InterruptedException e) {
+            task.cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Monte Carlo simulation cancelled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return new MonteCarloResult(paths, totals.balances, totals.firstReached);
+    }
+
+    private record Model(double initial, double deposit, double goalValue, double charityRate, int months,
+                         ReturnDistribution returns, int paths, SplittableRandom[] streams) {
+    }
+
+    /** Balance sketches per month and first-reached counts per month of a block of paths. */
+    private static final class Totals {
+        final QuantileSketch[] balances;
+        final long[] firstReached;
+
+        Totals(int months) {
+            balances = new QuantileSketch[months];
+            for (int i = 0; i < months; i++) {
+                balances[i] = new QuantileSketch(ACCURACY);
+            }
+            firstReached = new long[months + 1];
+        }
+
+        Totals merge(Totals other) {
+            for (int i = 0; i < balances.length; i++) {
+                balances[i].merge(other.balances[i]);
+            }
+            for (int i = 0; i < firstReached.length; i++) {
+                firstReached[i] += other.firstReached[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class Paths extends RecursiveTask<Totals> {
+        private final Model model;
+        private final int fromStream;
+        private final int toStream;
+        private final AtomicBoolean cancelled;
+
+        Paths(Model model, int fromStream, int toStream, AtomicBoolean cancelled) {
+            this.model = model;
+            this.fromStream = fromStream;
+            this.toStream = toStream;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (toStream - fromStream > 1) {
+                int middle = (fromStream + toStream) >>> 1;
+                Paths right = new Paths(model, middle, toStream, cancelled);
+                right.fork();
+                Totals left = new Paths(model, fromStream, middle, cancelled).compute();
+                return left.merge(right.join());
+            }
+
+            Totals totals = new Totals(model.months());
+            SplittableRandom random = model.streams()[fromStream];
+            int firstPath = fromStream * PATHS_PER_STREAM;
+            int lastPath = Math.min(firstPath + PATHS_PER_STREAM, model.paths());
+            for (int path = firstPath; path < lastPath && !cancelled.get(); path++) {
+                double balance = model.initial();
+                boolean reached = false;
+                for (int month = 1; month <= model.months(); month++) {
+                    balance += model.deposit();
+                    if (!reached && balance >= model.goalValue()) {
+                        totals.firstReached[month]++;
+                        reached = true;
+                    }
+                    double profit = balance * model.returns().sample(random);
+                    balance += profit > 0 ? profit * (1 - model.charityRate()) : profit;
+                    totals.balances[month - 1].add(Math.max(balance, 0));
+                }
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package profitcalculation.engine;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads typed numbers such as "1,250.75" with the separators of a locale. Digits may be any
+ * Unicode decimal digits, so Arabic-Indic input works too, and ASCII '.' and ',' keep working as
+ * decimal and grouping separators wherever the locale does not use them the other way round.
+ * The whole text must be a number; "12abc" is rejected rather than read as 12.
+ *
+ * <p>Instances are immutable and shared, so one parser serves every thread. A number with up to
+ * 18 significant digits is read without allocating.
+ */
+public final class NumberParser {
+    /** Separators for machine-written data: '.' for decimals and ',' for grouping. */
+    public static final NumberParser ROOT = new NumberParser(Locale.ROOT);
+
+    private static final Map<Locale, NumberParser> PARSERS = new ConcurrentHashMap<>();
+    private static final long MAX_MANTISSA = 100_000_000_000_000_000L;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+    private final boolean asciiDecimal;
+    private final boolean asciiGrouping;
+
+    private NumberParser(Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        minusSign = symbols.getMinusSign();
+        asciiDecimal = groupingSeparator != '.';
+        asciiGrouping = decimalSeparator != ',';
+    }
+
+    /** The parser for a locale's separators, created once and then shared. */
+    public static NumberParser of(Locale locale) {
+        return PARSERS.computeIfAbsent(locale, NumberParser::new);
+    }
+
+    /** The parser for what users type in this JVM's formatting locale. */
+    public static NumberParser forDefaultLocale() {
+        return of(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * The number in the text, ignoring surrounding whitespace, or NaN when the text is empty or
+     * not a number. An exponent such as "1e3" is accepted, as JSON writes them.
+     */
+    public double parse(CharSequence text) {
+        if (text == null) {
+            return Double.NaN;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && isSpace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isSpace(text.charAt(end - 1))) {
+            end--;
+        }
+        boolean negative = false;
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == minusSign)) {
+            negative = true;
+            start++;
+        }
+
+        long mantissa = 0;
+        int scale = 0;
+        boolean digits = false;
+        boolean fraction = false;
+        boolean exact = true;
+        int i = start;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            int digit = c >= '0' && c <= '9' ? c - '0' : Character.digit(c, 10);
+            if (digit >= 0) {
+                digits = true;
+                if (mantissa < MAX_MANTISSA) {
+                    mantissa = mantissa * 10 + digit;
+                    if (fraction) {
+                        scale++;
+                    }
+                } else {
+                    exact = false;
+                }
+            } else if (!fraction && (c == decimalSeparator || c == '.' && asciiDecimal)) {
+                fraction = true;
+            } else if (!fraction && digits && (c == groupingSeparator || c == ',' && asciiGrouping
+                    || c == ' ' && Character.isSpaceChar(groupingSeparator))) {
+                continue;
+            } else if ((c == 'e' || c == 'E') && digits) {
+                exact = false;
+                break;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (!digits) {
+            return Double.NaN;
+        }
+        if (exact && scale < POWERS_OF_TEN.length && mantissa <= (1L << 53)) {
+            // Both operands are exact, so the division rounds once, as parsing the decimal would
+            double value = mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        return slowParse(text, start, end, negative);
+    }
+
+    /** Rewrites the number in ASCII for {@link Double#parseDouble}, for long or exponent forms. */
+    private double slowParse(CharSequence text, int start, int end, boolean negative) {
+        StringBuilder ascii = new StringBuilder(end - start + 1);
+        if (negative) {
+            ascii.append('-');
+        }
+        boolean exponent = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            int digit = Character.digit(c, 10);
+            if (digit >= 0) {
+                ascii.append((char) ('0' + digit));
+            } else if (exponent) {
+                if ((c == '-' || c == '+') && (ascii.charAt(ascii.length() - 1) == 'e')) {
+                    ascii.append(c);
+                } else {
+                    return Double.NaN;
+                }
+            } else if (c == 'e' || c == 'E') {
+                exponent = true;
+                ascii.append('e');
+            } else if (c == decimalSeparator || c == '.' && asciiDecimal) {
+                ascii.append('.');
+            }
+            // Grouping separators were checked by the caller and are left out
+        }
+        if (ascii.charAt(ascii.length() - 1) == 'e') {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(ascii.toString());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+}
@@ -0,0 +1,120 @@
+package profitcalculation.engine;
+
+import java.util.concurrent.CancellationException;
+
+/** Months a single investment needs before one month's profit reaches a target. */
+public final class OneTimeInvestment {
+    // Targets that need more than 1000 years are treated as unreachable
+    public static final int MAX_MONTHS = 12000;
+    // The closed form and the monthly sums differ by rounding well within this fraction of the
+    // target, so a month whose profit comes this close is settled by adding up the months
+    private static final double BOUNDARY_TOLERANCE = 1e-9;
+
+    private OneTimeInvestment() {
+    }
+
+    /**
+     * Calculates the summary, and the monthly breakdown when asked for. Holds no state, so it can
+     * run on any thread. The investment value in month n is P * g^(n-1) with g = 1 + r(1 - c), so
+     * the month count is a log ratio and the totals are geometric sums.
+     * Returns null when the target can never be reached.
+     *
+     * @throws CancellationException if the calling thread is interrupted while building rows
+     */
+    public static OneTimeInvestmentResult compute(double oneTimeInvestment, double targetProfit, double monthlyProfitRate,
+                                                  double charityRate, boolean withSchedule) {
+        double rate = monthlyProfitRate / 100;
+        double charity = charityRate / 100;
+        int months = solveMonthsRequired(oneTimeInvestment, targetProfit, rate, charity);
+        if (months < 0) {
+            return null;
+        }
+
+        double growth = rate * (1 - charity);
+        double totalProfit = growth == 0
+                ? oneTimeInvestment * rate * months
+                : oneTimeInvestment * rate * Math.expm1(months * Math.log1p(growth)) / growth;
+        double finalAmount = oneTimeInvestment * Math.pow(1 + growth, months);
+        Schedule schedule = withSchedule
+                ? computeSchedule(oneTimeInvestment, monthlyProfitRate, charityRate, months)
+                : null;
+        return new OneTimeInvestmentResult(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate,
+                months, totalProfit, totalProfit * charity, finalAmount, schedule);
+    }
+
+    /**
+     * Builds the monthly breakdown for the given number of months.
+     *
+     * @throws CancellationException if the calling thread is interrupted while building rows
+     */
+    public static ScheduleColumns computeSchedule(double oneTimeInvestment, double monthlyProfitRate,
+                                                  double charityRate, int monthsRequired) {
+        ScheduleColumns columns = new ScheduleColumns(4, monthsRequired);
+        double currentInvestment = oneTimeInvestment;
+        for (int month = 1; month <= monthsRequired; month++) {
+            if ((month & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            double monthlyProfit = currentInvestment * (monthlyProfitRate / 100);
+            double charity = monthlyProfit * (charityRate / 100);
+            double remainingProfit = monthlyProfit - charity;
+
+            columns.add(month, currentInvestment, monthlyProfit, charity, remainingProfit);
+
+            currentInvestment += remainingProfit;
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the first month whose profit reaches the target, or -1 when it is never reached
+     * within {@link #MAX_MONTHS}. The first month always counts, as in the monthly breakdown.
+     */
+    public static int solveMonthsRequired(double investment, double targetProfit, double rate, double charityRate) {
+        double firstProfit = investment * rate;
+        if (firstProfit >= targetProfit) {
+            return 1;
+        }
+        double growth = rate * (1 - charityRate);
+        if (firstProfit <= 0 || growth <= 0) {
+            return -1;
+        }
+
+        double estimate = 1 + Math.log(targetProfit / firstProfit) / Math.log1p(growth);
+        if (estimate > MAX_MONTHS + 1) {
+            return -1;
+        }
+
+        // The logarithm can land one month off near the boundary, so settle on the exact month
+        int months = Math.max(1, (int) Math.ceil(estimate));
+        while (months > 1 && profitAtMonth(months - 1, firstProfit, growth) >= targetProfit) {
+            months--;
+        }
+        while (profitAtMonth(months, firstProfit, growth) < targetProfit) {
+            months++;
+        }
+        double tolerance = targetProfit * BOUNDARY_TOLERANCE;
+        if (profitAtMonth(months, firstProfit, growth) - targetProfit <= tolerance
+                || targetProfit - profitAtMonth(months - 1, firstProfit, growth) <= tolerance) {
+            return monthsByAddingUp(investment, targetProfit, rate, charityRate);
+        }
+        return months <= MAX_MONTHS ? months : -1;
+    }
+
+    /** The first month whose profit reaches the target, month by month as in the breakdown. */
+    private static int monthsByAddingUp(double investment, double targetProfit, double rate, double charityRate) {
+        double currentInvestment = investment;
+        for (int month = 1; month <= MAX_MONTHS; month++) {
+            double monthlyProfit = currentInvestment * rate;
+            if (monthlyProfit >= targetProfit) {
+                return month;
+            }
+            currentInvestment += monthlyProfit - monthlyProfit * charityRate;
+        }
+        return -1;
+    }
+
+    private static double profitAtMonth(int month, double firstProfit, double growth) {
+        return firstProfit * Math.pow(1 + growth, month - 1);
+    }
+}
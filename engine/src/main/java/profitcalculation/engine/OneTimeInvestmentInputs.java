@@ -0,0 +1,15 @@
+package profitcalculation.engine;
+
+/** Accepted One-Time Investment fields. */
+public record OneTimeInvestmentInputs(double investment, double targetProfit, double profitPct, double charityPct) {
+    /** Parses each field once with the form rules. */
+    public static Validated<OneTimeInvestmentInputs> parse(NumberParser parser, String investment, String targetProfit,
+                                                           String profitPct, String charityPct) {
+        FieldReader reader = new FieldReader(parser);
+        double amount = reader.number(investment, "Investment Amount");
+        double target = reader.number(targetProfit, "Target Monthly Profit");
+        double profit = reader.percentage(profitPct, "Monthly Profit Rate");
+        double charity = reader.percentage(charityPct, "Charity Rate");
+        return reader.isValid() ? Validated.valid(new OneTimeInvestmentInputs(amount, target, profit, charity)) : reader.invalid();
+    }
+}
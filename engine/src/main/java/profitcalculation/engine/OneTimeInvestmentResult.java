@@ -0,0 +1,10 @@
+package profitcalculation.engine;
+
+/**
+ * Outcome of a One-Time Investment run. The schedule is null when only the summary was
+ * calculated; the model builds it later from the inputs kept here.
+ */
+public record OneTimeInvestmentResult(double oneTimeInvestment, double targetProfit, double monthlyProfitRate,
+                                      double charityRate, int monthsRequired, double totalProfit,
+                                      double totalCharity, double finalAmount, Schedule schedule) {
+}
@@ -0,0 +1,102 @@
+package profitcalculation.engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Evaluates the Investment Calculator summary over every combination of profit %, charity % and
+ * months, splitting the (profit, charity) pairs across a fork-join pool. Each pair shares one
+ * log growth for all its months and nothing is allocated per grid point.
+ */
+public final class ParameterSweep {
+    /** Grid points a task computes itself instead of splitting further. */
+    private static final int LEAF_CELLS = 4096;
+
+    private ParameterSweep() {
+    }
+
+    public static SweepResult run(double investment, SweepAxis profitPct, SweepAxis charityPct, SweepAxis months) {
+        return run(investment, profitPct, charityPct, months, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the sweep on the given pool and waits for it. Month values are rounded to whole months.
+     * Interrupting the waiting thread stops the workers and throws {@link CancellationException}.
+     */
+    public static SweepResult run(double investment, SweepAxis profitPct, SweepAxis charityPct, SweepAxis months,
+                                  ForkJoinPool pool) {
+        int[] monthValues = new int[months.steps()];
+        for (int i = 0; i < monthValues.length; i++) {
+            monthValues[i] = (int) Math.round(months.value(i));
+            if (monthValues[i] < 0) {
+                throw new IllegalArgumentException("Months must not be negative");
+            }
+        }
+        SweepResult result = new SweepResult(investment, profitPct, charityPct, monthValues);
+        SweepTask task = new SweepTask(result, monthValues, 0, profitPct.steps() * charityPct.steps());
+        ForkJoinTask<Void> submitted = pool.submit(task);
+        try {
+            submitted.get();
+        } catch (InterruptedException e) {
+            task.cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Sweep cancelled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return result;
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+        private final SweepResult result;
+        private final int[] months;
+        private final int fromPair;
+        private final int toPair;
+        /** Shared by every subtask; set when the caller stops waiting. */
+        private final AtomicBoolean cancelled;
+
+        SweepTask(SweepResult result, int[] months, int fromPair, int toPair) {
+            this(result, months, fromPair, toPair, new AtomicBoolean());
+        }
+
+        private SweepTask(SweepResult result, int[] months, int fromPair, int toPair, AtomicBoolean cancelled) {
+            this.result = result;
+            this.months = months;
+            this.fromPair = fromPair;
+            this.toPair = toPair;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            int pairs = toPair - fromPair;
+            if (pairs > 1 && (long) pairs * months.length > LEAF_CELLS) {
+                int middle = fromPair + pairs / 2;
+                invokeAll(new SweepTask(result, months, fromPair, middle, cancelled),
+                        new SweepTask(result, months, middle, toPair, cancelled));
+                return;
+            }
+
+            double investment = result.getInvestment();
+            int charitySteps = result.getCharityAxis().steps();
+            for (int pair = fromPair; pair < toPair && !cancelled.get(); pair++) {
+                double rate = result.getProfitAxis().value(pair / charitySteps) / 100;
+                double charityPct = result.getCharityAxis().value(pair % charitySteps);
+                double growth = rate * (1 - charityPct / 100);
+                double logGrowth = Math.log1p(growth);
+                int base = pair * months.length;
+                for (int m = 0; m < months.length; m++) {
+                    result.finalAmount[base + m] = InvestmentCalculator.finalAmount(investment, logGrowth, months[m]);
+                    result.totalCharity[base + m] = InvestmentCalculator.totalProfit(investment, rate, growth, logGrowth, months[m]) * charityPct / 100;
+                }
+            }
+        }
+    }
+}
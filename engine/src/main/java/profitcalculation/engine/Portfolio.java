@@ -0,0 +1,75 @@
+package profitcalculation.engine;
+
+import java.util.Arrays;
+
+/**
+ * Holdings of a portfolio, each a lump sum with its own monthly profit % and charity %, stored
+ * column by column in parallel primitive arrays so that {@link PortfolioCalculator} can step
+ * every position with one pass over contiguous memory. Not thread-safe while positions are
+ * being added.
+ */
+public final class Portfolio {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Read in place by the calculator; only the first size entries are positions
+    double[] principal;
+    double[] profitPct;
+    double[] charityPct;
+    private int size;
+
+    public Portfolio() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public Portfolio(int expectedPositions) {
+        int capacity = Math.max(expectedPositions, 1);
+        principal = new double[capacity];
+        profitPct = new double[capacity];
+        charityPct = new double[capacity];
+    }
+
+    /**
+     * Adds a position and returns its index, which drill-downs are asked for by.
+     *
+     * @throws IllegalArgumentException if an amount or percentage is negative or not a number
+     */
+    public int add(double investment, double monthlyProfitPct, double charityPctOfProfit) {
+        if (!(investment >= 0) || !(monthlyProfitPct >= 0) || !(charityPctOfProfit >= 0)) {
+            throw new IllegalArgumentException("Position amounts and percentages must be non-negative numbers.");
+        }
+        if (size == principal.length) {
+            int capacity = principal.length * 2;
+            principal = Arrays.copyOf(principal, capacity);
+            profitPct = Arrays.copyOf(profitPct, capacity);
+            charityPct = Arrays.copyOf(charityPct, capacity);
+        }
+        principal[size] = investment;
+        profitPct[size] = monthlyProfitPct;
+        charityPct[size] = charityPctOfProfit;
+        return size++;
+    }
+
+    public int size() { return size; }
+
+    public double getPrincipal(int position) { return principal[check(position)]; }
+
+    public double getProfitPct(int position) { return profitPct[check(position)]; }
+
+    public double getCharityPct(int position) { return charityPct[check(position)]; }
+
+    /** Sum of every position's principal. */
+    public double totalPrincipal() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += principal[i];
+        }
+        return total;
+    }
+
+    private int check(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + size);
+        }
+        return position;
+    }
+}
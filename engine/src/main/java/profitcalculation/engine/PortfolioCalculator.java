@@ -0,0 +1,65 @@
+package profitcalculation.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Steps every position of a {@link Portfolio} month by month, compounding monthly as the
+ * Investment Calculator does. Positions are taken in blocks small enough to stay in cache for
+ * the whole horizon, and within a block one loop over the parallel arrays advances each position
+ * by a month while summing the month's profit and charity, which the JIT turns into vector
+ * instructions. Holds no state, so it can run on any thread.
+ */
+public final class PortfolioCalculator {
+    /** Positions stepped through every month before moving on; their four 8 KB arrays stay in cache. */
+    private static final int BLOCK = 1024;
+
+    private PortfolioCalculator() {
+    }
+
+    /**
+     * Runs the positions added so far for the given number of months. Nothing is allocated per
+     * month or per position beyond the result's arrays.
+     *
+     * @throws CancellationException if the calling thread is interrupted between blocks
+     */
+    public static PortfolioResult compute(Portfolio portfolio, int numMonths) {
+        if (numMonths < 0) {
+            throw new IllegalArgumentException("Months must not be negative");
+        }
+        int positions = portfolio.size();
+        double[] rate = new double[positions];
+        double[] charityRate = new double[positions];
+        for (int i = 0; i < positions; i++) {
+            rate[i] = portfolio.profitPct[i] / 100;
+            charityRate[i] = portfolio.charityPct[i] / 100;
+        }
+        double[] value = Arrays.copyOf(portfolio.principal, positions);
+        double[] positionProfit = new double[positions];
+        double[] monthProfit = new double[numMonths];
+        double[] monthCharity = new double[numMonths];
+
+        for (int from = 0; from < positions; from += BLOCK) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            int to = Math.min(positions, from + BLOCK);
+            for (int month = 0; month < numMonths; month++) {
+                double profitSum = 0;
+                double charitySum = 0;
+                for (int i = from; i < to; i++) {
+                    double profit = value[i] * rate[i];
+                    double charity = profit * charityRate[i];
+                    value[i] += profit - charity;
+                    positionProfit[i] += profit;
+                    profitSum += profit;
+                    charitySum += charity;
+                }
+                monthProfit[month] += profitSum;
+                monthCharity[month] += charitySum;
+            }
+        }
+        return new PortfolioResult(portfolio, positions, portfolio.totalPrincipal(), value, positionProfit,
+                monthProfit, monthCharity);
+    }
+}
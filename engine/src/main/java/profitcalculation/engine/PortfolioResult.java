@@ -0,0 +1,76 @@
+package profitcalculation.engine;
+
+/**
+ * Outcome of a {@link PortfolioCalculator} run: totals for the whole portfolio month by month,
+ * and each position's own totals, whose monthly breakdown is computed only when a position is
+ * drilled into.
+ */
+public final class PortfolioResult {
+    private final Portfolio portfolio;
+    private final int positions;
+    private final double[] finalAmount;
+    private final double[] positionProfit;
+    private final ScheduleColumns schedule;
+    private final double totalProfit;
+    private final double totalCharity;
+    private final double totalFinalAmount;
+
+    PortfolioResult(Portfolio portfolio, int positions, double principal, double[] finalAmount,
+                    double[] positionProfit, double[] monthProfit, double[] monthCharity) {
+        this.portfolio = portfolio;
+        this.positions = positions;
+        this.finalAmount = finalAmount;
+        this.positionProfit = positionProfit;
+        this.schedule = new ScheduleColumns(3, monthProfit.length);
+        double profit = 0;
+        double charity = 0;
+        for (int month = 0; month < monthProfit.length; month++) {
+            profit += monthProfit[month];
+            charity += monthCharity[month];
+            schedule.add(month + 1, monthProfit[month], monthCharity[month], principal + profit - charity);
+        }
+        this.totalProfit = profit;
+        this.totalCharity = charity;
+        double total = 0;
+        for (int i = 0; i < positions; i++) {
+            total += finalAmount[i];
+        }
+        this.totalFinalAmount = total;
+    }
+
+    public int positions() { return positions; }
+    public int months() { return schedule.size(); }
+    public double totalProfit() { return totalProfit; }
+    public double totalCharity() { return totalCharity; }
+    public double finalAmount() { return totalFinalAmount; }
+
+    /** The whole portfolio's Profit, Charity and Investment Value after each month. */
+    public Schedule schedule() { return schedule; }
+
+    public double getFinalAmount(int position) { return finalAmount[check(position)]; }
+
+    public double getTotalProfit(int position) { return positionProfit[check(position)]; }
+
+    public double getTotalCharity(int position) {
+        return positionProfit[check(position)] * portfolio.charityPct[position] / 100;
+    }
+
+    /**
+     * One position as an Investment Calculator result. Its totals come from this run and its
+     * monthly rows are computed as they are read.
+     */
+    public InvestmentCalculatorResult position(int position) {
+        check(position);
+        CompoundingSchedule rows = new CompoundingSchedule(portfolio.principal[position],
+                portfolio.profitPct[position], portfolio.charityPct[position], months());
+        return new InvestmentCalculatorResult(positionProfit[position], getTotalCharity(position),
+                finalAmount[position], rows);
+    }
+
+    private int check(int position) {
+        if (position < 0 || position >= positions) {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + positions);
+        }
+        return position;
+    }
+}
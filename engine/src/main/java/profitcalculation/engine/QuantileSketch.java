@@ -0,0 +1,103 @@
+package profitcalculation.engine;
+
+import java.util.Arrays;
+
+/**
+ * Streaming quantile sketch for non-negative values with a bounded relative error. Values go
+ * into logarithmic buckets, so memory grows with the spread of the values rather than their
+ * count, and two sketches with the same accuracy merge exactly by adding bucket counts.
+ */
+public final class QuantileSketch {
+    /** Values below this are counted as zero. */
+    private static final double MIN_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private int[] counts = new int[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+
+    /** @param relativeAccuracy largest relative error of a returned quantile, e.g. 0.005 for 0.5% */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException("Only non-negative values can be added: " + value);
+        }
+        count++;
+        if (value < MIN_VALUE) {
+            zeroCount++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        ensureCapacity(index);
+        counts[index - offset]++;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Sketches with different accuracies cannot be merged");
+        }
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset);
+            ensureCapacity(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /** Value at quantile {@code q} (0 to 1), or NaN when the sketch is empty. */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                // Midpoint of the bucket in relative terms, which bounds the error on both sides
+                return 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+            }
+        }
+        return 2 * Math.pow(gamma, offset + counts.length - 1) / (gamma + 1);
+    }
+
+    private void ensureCapacity(int index) {
+        if (counts.length == 0) {
+            counts = new int[64];
+            offset = index - 32;
+        } else if (index < offset) {
+            int grow = Math.max(offset - index, counts.length / 2);
+            int[] grown = new int[counts.length + grow];
+            System.arraycopy(counts, 0, grown, grow, counts.length);
+            counts = grown;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            int grow = Math.max(index - offset - counts.length + 1, counts.length / 2);
+            counts = Arrays.copyOf(counts, counts.length + grow);
+        }
+    }
+}
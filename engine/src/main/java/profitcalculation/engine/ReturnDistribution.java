@@ -0,0 +1,130 @@
+package profitcalculation.engine;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/** Source of random monthly profit rates for {@link MonteCarloSimulation}. Rates are fractions, 0.02 for 2%. */
+public interface ReturnDistribution {
+    /** Draws one month's profit rate; never below -1, so a balance cannot turn negative. */
+    double sample(SplittableRandom random);
+
+    /** Expected monthly profit rate. */
+    double mean();
+
+    /** Normally distributed monthly rates, cut off at -100%. */
+    static ReturnDistribution normal(double meanPct, double stdDevPct) {
+        double mean = meanPct / 100;
+        double stdDev = stdDevPct / 100;
+        if (!(stdDev >= 0)) {
+            throw new IllegalArgumentException("Standard deviation must not be negative");
+        }
+        return new ReturnDistribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return Math.max(-1, mean + stdDev * random.nextGaussian());
+            }
+
+            @Override
+            public double mean() {
+                return mean;
+            }
+        };
+    }
+
+    /**
+     * Monthly growth factors 1 + r drawn from a lognormal distribution whose mean and standard
+     * deviation match the given rate, so rates never fall below -100%.
+     */
+    static ReturnDistribution lognormal(double meanPct, double stdDevPct) {
+        double mean = meanPct / 100;
+        double factor = 1 + mean;
+        if (!(factor > 0) || !(stdDevPct >= 0)) {
+            throw new IllegalArgumentException("Lognormal returns need a mean above -100% and a non-negative deviation");
+        }
+        double relativeDeviation = stdDevPct / 100 / factor;
+        double sigma = Math.sqrt(Math.log1p(relativeDeviation * relativeDeviation));
+        double mu = Math.log(factor) - sigma * sigma / 2;
+        return new ReturnDistribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return Math.expm1(mu + sigma * random.nextGaussian());
+            }
+
+            @Override
+            public double mean() {
+                return mean;
+            }
+        };
+    }
+
+    /**
+     * Resamples historical monthly rates, in percent, from a CSV file. Values come from the named
+     * column, or the first column when {@code column} is null; rows that are not numbers, such as
+     * a header, are skipped and a trailing % sign is allowed.
+     */
+    static ReturnDistribution bootstrap(Path csv, String column) throws IOException {
+        double[] rates = new double[64];
+        int size = 0;
+        int columnIndex = 0;
+        try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+            boolean first = true;
+            for (CSVRecord record : parser) {
+                if (first && column != null) {
+                    columnIndex = record.toList().indexOf(column);
+                    if (columnIndex < 0) {
+                        throw new IllegalArgumentException("Column '" + column + "' not found in " + csv);
+                    }
+                    first = false;
+                    continue;
+                }
+                first = false;
+                if (columnIndex >= record.size()) {
+                    continue;
+                }
+                String value = record.get(columnIndex).trim();
+                if (value.endsWith("%")) {
+                    value = value.substring(0, value.length() - 1).trim();
+                }
+                double rate;
+                try {
+                    rate = Double.parseDouble(value) / 100;
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (!(rate >= -1) || Double.isInfinite(rate)) {
+                    throw new IllegalArgumentException("Monthly return below -100% in " + csv + ": " + value);
+                }
+                if (size == rates.length) {
+                    rates = Arrays.copyOf(rates, size * 2);
+                }
+                rates[size++] = rate;
+            }
+        }
+        if (size == 0) {
+            throw new IllegalArgumentException("No monthly returns found in " + csv);
+        }
+        double[] samples = Arrays.copyOf(rates, size);
+        double mean = Arrays.stream(samples).average().orElse(0);
+        return new ReturnDistribution() {
+            @Override
+            public double sample(SplittableRandom random) {
+                return samples[random.nextInt(samples.length)];
+            }
+
+            @Override
+            public double mean() {
+                return mean;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package profitcalculation.engine;
+
+/**
+ * Advances many independent lump-sum scenarios over the same number of months, the Investment
+ * Calculator's monthly step applied lane by lane: each month a scenario's profit is
+ * {@code amount * rate}, and {@code profit * retained} of it, the part left after charity, is
+ * reinvested. Scenarios are given as parallel arrays, one index per scenario.
+ *
+ * <p>{@link ScenarioKernels#fastest()} picks the Vector API kernel when the optional vector
+ * module is on the class path and {@code jdk.incubator.vector} is resolved, and the scalar
+ * kernel otherwise. Both give the same results to the last bit.
+ */
+public interface ScenarioKernel {
+    /**
+     * Runs every scenario for the given number of months. On return {@code amount} holds each
+     * scenario's final value and each month's profit before charity has been added to
+     * {@code totalProfit}. Rates are fractions per month, not percentages.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or months is negative
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted
+     */
+    void advance(double[] amount, double[] rate, double[] retained, double[] totalProfit, int months);
+
+    /** Short name for logs and benchmark output. */
+    String name();
+}
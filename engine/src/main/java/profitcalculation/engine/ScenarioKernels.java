@@ -0,0 +1,87 @@
+package profitcalculation.engine;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
+
+/** The available {@link ScenarioKernel}s. */
+public final class ScenarioKernels {
+    private ScenarioKernels() {
+    }
+
+    /** The plain Java kernel, always available. */
+    public static ScenarioKernel scalar() {
+        return ScalarKernel.INSTANCE;
+    }
+
+    /**
+     * The first kernel registered as a service that loads, which is the Vector API kernel when
+     * the build ran with -Pvector and the JVM with {@code --add-modules jdk.incubator.vector};
+     * the scalar kernel otherwise. Looked up once.
+     */
+    public static ScenarioKernel fastest() {
+        return Fastest.KERNEL;
+    }
+
+    /**
+     * Checks the arguments of {@link ScenarioKernel#advance}, for kernels to call first.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or months is negative
+     */
+    public static void checkLanes(double[] amount, double[] rate, double[] retained, double[] totalProfit, int months) {
+        if (rate.length != amount.length || retained.length != amount.length || totalProfit.length != amount.length) {
+            throw new IllegalArgumentException("Scenario arrays must have the same length");
+        }
+        if (months < 0) {
+            throw new IllegalArgumentException("Months must not be negative");
+        }
+    }
+
+    private static final class Fastest {
+        static final ScenarioKernel KERNEL = load();
+
+        private static ScenarioKernel load() {
+            try {
+                for (ScenarioKernel kernel : ServiceLoader.load(ScenarioKernel.class, ScenarioKernels.class.getClassLoader())) {
+                    return kernel;
+                }
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // The vector module is packaged but jdk.incubator.vector was not added to the JVM
+            }
+            return ScalarKernel.INSTANCE;
+        }
+    }
+
+    /**
+     * Steps the scenarios month by month in blocks that stay in cache. The loop over a block has
+     * no dependency between lanes, so the JIT may still vectorize it, but each month goes
+     * through memory instead of staying in registers as in the vector kernel.
+     */
+    private static final class ScalarKernel implements ScenarioKernel {
+        static final ScalarKernel INSTANCE = new ScalarKernel();
+        private static final int BLOCK = 1024;
+
+        @Override
+        public void advance(double[] amount, double[] rate, double[] retained, double[] totalProfit, int months) {
+            checkLanes(amount, rate, retained, totalProfit, months);
+            for (int from = 0; from < amount.length; from += BLOCK) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException();
+                }
+                int to = Math.min(amount.length, from + BLOCK);
+                for (int month = 0; month < months; month++) {
+                    for (int i = from; i < to; i++) {
+                        double profit = amount[i] * rate[i];
+                        totalProfit[i] += profit;
+                        amount[i] += profit * retained[i];
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String name() {
+            return "scalar";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package profitcalculation.engine;
+
+/**
+ * Read-only monthly schedule shared by the results table, exports and charts.
+ * Column 0 is the month number; value columns are numbered from 1 to match the table columns.
+ */
+public interface Schedule {
+    int size();
+    int getValueColumnCount();
+    int getMonth(int row);
+    double getValue(int row, int column);
+
+    /** Rough heap footprint in bytes, for caches that bound what they keep by size. */
+    default long estimatedBytes() {
+        return 64 + (long) size() * (4 + 8L * getValueColumnCount());
+    }
+}
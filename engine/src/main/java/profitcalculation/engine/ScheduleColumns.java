@@ -0,0 +1,66 @@
+package profitcalculation.engine;
+
+import java.util.Arrays;
+
+/**
+ * Monthly schedule stored column by column in primitive arrays.
+ */
+public class ScheduleColumns implements Schedule {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] months;
+    private final double[][] values;
+    private int size;
+
+    public ScheduleColumns(int valueColumnCount, int expectedRows) {
+        int capacity = Math.max(expectedRows, INITIAL_CAPACITY);
+        months = new int[capacity];
+        values = new double[valueColumnCount][capacity];
+    }
+
+    public void add(int month, double first, double second, double third) {
+        int row = nextRow();
+        months[row] = month;
+        values[0][row] = first;
+        values[1][row] = second;
+        values[2][row] = third;
+    }
+
+    public void add(int month, double first, double second, double third, double fourth) {
+        int row = nextRow();
+        months[row] = month;
+        values[0][row] = first;
+        values[1][row] = second;
+        values[2][row] = third;
+        values[3][row] = fourth;
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public int getValueColumnCount() { return values.length; }
+
+    @Override
+    public int getMonth(int row) { return months[row]; }
+
+    @Override
+    public double getValue(int row, int column) { return values[column - 1][row]; }
+
+    /** Counts the allocated capacity, not just the filled rows. */
+    @Override
+    public long estimatedBytes() {
+        return 64 + 16L * (values.length + 1) + (long) months.length * (4 + 8L * values.length);
+    }
+
+    private int nextRow() {
+        if (size == months.length) {
+            int capacity = months.length * 2;
+            months = Arrays.copyOf(months, capacity);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Arrays.copyOf(values[i], capacity);
+            }
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,17 @@
+package profitcalculation.engine;
+
+/** Evenly spaced values from {@code from} to {@code to} inclusive; a single step is just {@code from}. */
+public record SweepAxis(double from, double to, int steps) {
+    public SweepAxis {
+        if (steps < 1) {
+            throw new IllegalArgumentException("A sweep axis needs at least one step");
+        }
+        if (!Double.isFinite(from) || !Double.isFinite(to)) {
+            throw new IllegalArgumentException("Sweep axis bounds must be finite");
+        }
+    }
+
+    public double value(int step) {
+        return steps == 1 ? from : from + (to - from) * step / (steps - 1);
+    }
+}
@@ -0,0 +1,56 @@
+package profitcalculation.engine;
+
+/**
+ * Dense cube of Investment Calculator summaries over a profit % x charity % x months grid.
+ * Values are stored in flat arrays indexed by {@code (profit * charitySteps + charity) * monthSteps + month}.
+ */
+public final class SweepResult {
+    /** Summary values a sweep keeps for every grid point. */
+    public enum Metric {
+        FINAL_AMOUNT("Final Amount"),
+        TOTAL_CHARITY("Total Charity");
+
+        private final String label;
+
+        Metric(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final double investment;
+    private final SweepAxis profitPct;
+    private final SweepAxis charityPct;
+    private final int[] months;
+    final double[] finalAmount;
+    final double[] totalCharity;
+
+    SweepResult(double investment, SweepAxis profitPct, SweepAxis charityPct, int[] months) {
+        this.investment = investment;
+        this.profitPct = profitPct;
+        this.charityPct = charityPct;
+        this.months = months;
+        int cells = Math.multiplyExact(Math.multiplyExact(profitPct.steps(), charityPct.steps()), months.length);
+        this.finalAmount = new double[cells];
+        this.totalCharity = new double[cells];
+    }
+
+    public double getInvestment() { return investment; }
+    public SweepAxis getProfitAxis() { return profitPct; }
+    public SweepAxis getCharityAxis() { return charityPct; }
+    public int getMonthSteps() { return months.length; }
+    public int getMonths(int monthStep) { return months[monthStep]; }
+
+    public double get(Metric metric, int profitStep, int charityStep, int monthStep) {
+        int index = index(profitStep, charityStep, monthStep);
+        return metric == Metric.FINAL_AMOUNT ? finalAmount[index] : totalCharity[index];
+    }
+
+    int index(int profitStep, int charityStep, int monthStep) {
+        return (profitStep * charityPct.steps() + charityStep) * months.length + monthStep;
+    }
+}
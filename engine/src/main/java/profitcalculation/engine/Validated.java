@@ -0,0 +1,28 @@
+package profitcalculation.engine;
+
+import java.util.List;
+
+/**
+ * Parsed inputs, or the reasons they were rejected: one message per problem, such as
+ * "Charity Rate cannot be greater than 100%.". Exactly one of the two is present.
+ *
+ * @param <T> the calculator's input record
+ */
+public record Validated<T>(T value, List<String> errors) {
+    public Validated {
+        errors = List.copyOf(errors);
+    }
+
+    public static <T> Validated<T> valid(T value) {
+        return new Validated<>(value, List.of());
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /** The messages one per line, as a dialog shows them. */
+    public String message() {
+        return String.join("\n", errors);
+    }
+}
@@ -0,0 +1,97 @@
+package profitcalculation.export;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import profitcalculation.engine.Schedule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a report to CSV: a few heading and label/value lines, then one record per schedule row
+ * read straight from its numeric columns. Rows are never collected, so memory stays constant
+ * whatever the horizon. Amounts are written with two decimals and a dot separator in any locale.
+ */
+public class ScheduleCsvExporter {
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder().setRecordSeparator('\n').build();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<String[]> preamble = new ArrayList<>();
+    private final DecimalFormat amountFormat = new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.ROOT));
+    private final StringBuffer amount = new StringBuffer(32);
+    private final StringBuilder month = new StringBuilder(8);
+    private final FieldPosition fieldPosition = new FieldPosition(0);
+
+    /** Adds a line written before the schedule. No values writes an empty line. */
+    public ScheduleCsvExporter line(String... values) {
+        preamble.add(values);
+        return this;
+    }
+
+    /**
+     * Writes the report to a file, gzip compressed when the name ends in ".gz". A partly written
+     * file is deleted if the export fails or is cancelled.
+     *
+     * @throws CancellationException if the calling thread is interrupted while writing rows
+     */
+    public void export(Path file, String[] header, Schedule schedule) throws IOException {
+        boolean gzip = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+        boolean done = false;
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             OutputStream out = gzip ? new GZIPOutputStream(fileOut, BUFFER_SIZE) : fileOut;
+             Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            write(writer, header, schedule);
+            done = true;
+        } finally {
+            if (!done) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Writes the report to the given writer and flushes it. The writer is not closed.
+     *
+     * @throws CancellationException if the calling thread is interrupted while writing rows
+     */
+    public void write(Writer writer, String[] header, Schedule schedule) throws IOException {
+        CSVPrinter printer = new CSVPrinter(writer, FORMAT);
+        for (String[] values : preamble) {
+            if (values.length == 0) {
+                printer.println();
+            } else {
+                printer.printRecord((Object[]) values);
+            }
+        }
+        printer.printRecord((Object[]) header);
+
+        int columns = schedule.getValueColumnCount();
+        for (int row = 0; row < schedule.size(); row++) {
+            if ((row & 1023) == 1023 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            month.setLength(0);
+            printer.print(month.append(schedule.getMonth(row)));
+            for (int column = 1; column <= columns; column++) {
+                amount.setLength(0);
+                printer.print(amountFormat.format(schedule.getValue(row, column), amount, fieldPosition));
+            }
+            printer.println();
+        }
+        printer.flush();
+    }
+}
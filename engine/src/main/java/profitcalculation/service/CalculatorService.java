@@ -0,0 +1,395 @@
+package profitcalculation.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import profitcalculation.cache.CacheStats;
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.GoalPlannerInputs;
+import profitcalculation.engine.GoalPlannerResult;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.MoneyRounding;
+import profitcalculation.engine.NumberParser;
+import profitcalculation.engine.OneTimeInvestmentInputs;
+import profitcalculation.engine.OneTimeInvestmentResult;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.Validated;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The three calculators as a local HTTP JSON service, for callers that want the same numbers as
+ * the desktop app.
+ *
+ * <pre>
+ * GET|POST /api/investment            investment, profit_pct, charity_pct, months[, compounding, reporting]
+ * GET|POST /api/goal                  target_profit, monthly_investment, profit_pct, charity_pct
+ * GET|POST /api/onetime               investment, target_profit, profit_pct, charity_pct
+ * GET|POST /api/{calculator}/schedule the same, plus offset and limit, or stream=true for every row
+ *                                     any of them also takes rounding=half-even|half-up for exact money
+ * GET      /api/cache                 hit, miss and eviction counters of the shared result cache
+ * </pre>
+ *
+ * Values come from the query string or a flat JSON object body, are read with '.' decimals and
+ * are checked with the form rules. A summary is one small object; schedules are written row by
+ * row, either one page or the whole schedule as a chunked response. Each request runs on its own
+ * virtual thread where the JDK has them, otherwise on a fixed pool.
+ */
+public final class CalculatorService {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int BACKLOG = 1024;
+    private static final int DEFAULT_PAGE_SIZE = 120;
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final System.Logger LOG = System.getLogger(CalculatorService.class.getName());
+
+    private static final Map<String, Calculator<?>> CALCULATORS = Map.of(
+        "investment", new InvestmentEndpoint(),
+        "goal", new GoalEndpoint(),
+        "onetime", new OneTimeEndpoint());
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public CalculatorService(InetSocketAddress address) throws IOException {
+        server = HttpServer.create(address, BACKLOG);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/api/", new ApiHandler());
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = "127.0.0.1";
+        int port = DEFAULT_PORT;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--host") && i + 1 < args.length) {
+                host = args[++i];
+            } else {
+                System.err.println("Usage: CalculatorService [--host HOST] [--port PORT]");
+                System.exit(1);
+            }
+        }
+        useNoDelay();
+        CalculatorService service = new CalculatorService(new InetSocketAddress(host, port));
+        service.start();
+        System.err.println("Serving the calculators on http://" + host + ":" + service.getPort() + "/api/");
+    }
+
+    /**
+     * Turns off Nagle's algorithm for every JDK HTTP server in this JVM, unless
+     * {@code sun.net.httpserver.nodelay} is already set. The JDK server writes headers and body
+     * separately, so with Nagle on each keep-alive response waits for the client's delayed ACK,
+     * capping a connection at about 25 requests per second. The property is JVM-wide and read
+     * once, when the first server is created, so {@link #main} opts in before that and an
+     * application embedding the service decides for itself.
+     */
+    public static void useNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Stops accepting requests, gives running ones a second to finish and releases the threads. */
+    public void stop() {
+        server.stop(1);
+        executor.shutdownNow();
+    }
+
+    /** The bound port, useful when the service was created on port 0. */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * A virtual thread per request on Java 21 and later, looked up reflectively because the
+     * build targets 17. Older JDKs get a fixed pool sized for short CPU-bound requests with some
+     * room for slow schedule downloads.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+            return Executors.newFixedThreadPool(threads, new WorkerFactory());
+        }
+    }
+
+    /** Routes /api/{calculator}[/schedule] and turns failures into JSON errors. */
+    private static final class ApiHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                String method = exchange.getRequestMethod();
+                String body = readBody(exchange);
+                if (!method.equals("GET") && !method.equals("POST")) {
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    sendErrors(exchange, 405, "Use GET or POST.");
+                    return;
+                }
+
+                String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+                if (path.length == 1 && path[0].equals("cache")) {
+                    sendCacheStats(exchange);
+                    return;
+                }
+                Calculator<?> calculator = CALCULATORS.get(path[0]);
+                boolean schedule = path.length == 2 && path[1].equals("schedule");
+                if (calculator == null || path.length > 2 || (path.length == 2 && !schedule)) {
+                    sendErrors(exchange, 404, "Unknown endpoint. Use /api/investment, /api/goal or /api/onetime, "
+                        + "optionally followed by /schedule.");
+                    return;
+                }
+
+                RequestParameters parameters = new RequestParameters(exchange.getRequestURI().getRawQuery(), body);
+                Validated<Calculation> calculation = calculate(calculator, parameters, schedule);
+                if (!calculation.isValid()) {
+                    sendErrors(exchange, 400, calculation.errors().toArray(new String[0]));
+                } else if (calculation.value() == null) {
+                    sendErrors(exchange, 422, "The target monthly profit can never be reached with these values.");
+                } else if (schedule) {
+                    sendSchedule(exchange, path[0], calculation.value().columns(), calculation.value().schedule(), parameters);
+                } else {
+                    sendSummary(exchange, path[0], calculation.value());
+                }
+            } catch (IllegalArgumentException e) {
+                sendErrors(exchange, 400, e.getMessage());
+            } catch (RuntimeException e) {
+                // The details stay in the server's log rather than going to the client
+                LOG.log(System.Logger.Level.ERROR, "Request " + exchange.getRequestURI() + " failed", e);
+                sendErrors(exchange, 500, "Calculation failed.");
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /** Parses the request's values once and runs them; a valid null result means unreachable. */
+    private static <T> Validated<Calculation> calculate(Calculator<T> calculator, RequestParameters parameters,
+                                                        boolean withSchedule) {
+        Validated<T> inputs = calculator.read(parameters);
+        if (!inputs.isValid()) {
+            return new Validated<>(null, inputs.errors());
+        }
+        return Validated.valid(calculator.calculate(inputs.value(), parameters, withSchedule));
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        // Always drained, so the connection can be kept alive for the next request
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void sendSummary(HttpExchange exchange, String name, Calculation calculation) throws IOException {
+        StringWriter text = new StringWriter(256);
+        JsonWriter json = new JsonWriter(text).beginObject().name("calculator").value(name)
+            .name(calculation.monthsName()).value(calculation.months());
+        for (int i = 0; i < calculation.names().length; i++) {
+            json.name(calculation.names()[i]).value(calculation.values()[i]);
+        }
+        json.endObject();
+        send(exchange, 200, text.toString());
+    }
+
+    /** Writes one page of rows, or with stream=true every row from the offset on without a length. */
+    private static void sendSchedule(HttpExchange exchange, String name, String[] columns, Schedule schedule,
+                                     RequestParameters parameters) throws IOException {
+        boolean stream = parameters.getBoolean("stream");
+        int offset = parameters.getInt("offset", 0);
+        int limit = stream ? Integer.MAX_VALUE : parameters.getInt("limit", DEFAULT_PAGE_SIZE);
+        if (offset < 0 || limit < 1 || (!stream && limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("offset must be at least 0 and limit between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        int from = Math.min(offset, schedule.size());
+        int to = (int) Math.min((long) from + limit, schedule.size());
+
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        if (stream) {
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE)) {
+                writeSchedule(new JsonWriter(writer), name, columns, schedule, from, to);
+            }
+        } else {
+            StringWriter text = new StringWriter(64 + (to - from) * 64);
+            writeSchedule(new JsonWriter(text), name, columns, schedule, from, to);
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private static void writeSchedule(JsonWriter json, String name, String[] columns, Schedule schedule,
+                                      int from, int to) throws IOException {
+        json.beginObject().name("calculator").value(name)
+            .name("total_rows").value(schedule.size())
+            .name("offset").value(from)
+            .name("columns").beginArray();
+        for (String column : columns) {
+            json.value(column);
+        }
+        json.endArray().name("rows").beginArray();
+        int valueColumns = schedule.getValueColumnCount();
+        for (int row = from; row < to; row++) {
+            json.beginArray().value(schedule.getMonth(row));
+            for (int column = 1; column <= valueColumns; column++) {
+                json.value(schedule.getValue(row, column));
+            }
+            json.endArray();
+        }
+        json.endArray().endObject();
+    }
+
+    private static void sendCacheStats(HttpExchange exchange) throws IOException {
+        CacheStats stats = CalculationCache.stats();
+        StringWriter text = new StringWriter(160);
+        new JsonWriter(text).beginObject()
+            .name("hits").value(stats.hits())
+            .name("misses").value(stats.misses())
+            .name("evictions").value(stats.evictions())
+            .name("entries").value(stats.entries())
+            .name("estimated_bytes").value(stats.estimatedBytes())
+            .name("max_bytes").value(stats.maxBytes())
+            .endObject();
+        send(exchange, 200, text.toString());
+    }
+
+    private static void sendErrors(HttpExchange exchange, int status, String... errors) throws IOException {
+        StringWriter text = new StringWriter(128);
+        JsonWriter json = new JsonWriter(text).beginObject().name("errors").beginArray();
+        for (String error : errors) {
+            json.value(error);
+        }
+        json.endArray().endObject();
+        send(exchange, status, text.toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Summary fields after the month count, and the schedule when one was asked for with the names
+     * of its columns, period first.
+     */
+    private record Calculation(String monthsName, int months, String[] names, double[] values, Schedule schedule,
+                               String[] columns) {
+    }
+
+    private interface Calculator<T> {
+        /** Parses the calculator's values, or lists what is wrong with them. */
+        Validated<T> read(RequestParameters parameters);
+
+        /** Runs accepted values; null when the target can never be reached. */
+        Calculation calculate(T inputs, RequestParameters parameters, boolean withSchedule);
+    }
+
+    private static final class InvestmentEndpoint implements Calculator<InvestmentInputs> {
+        private static final String[] COLUMNS = {"month", "profit", "charity", "investment_value"};
+        // Period column by CompoundingFrequency ordinal
+        private static final String[] PERIODS = {"day", "week", "month", "quarter", "year"};
+        private static final String[] SUMMARY = {"total_investment", "total_profit", "total_charity", "final_amount"};
+
+        @Override
+        public Validated<InvestmentInputs> read(RequestParameters parameters) {
+            return InvestmentInputs.parse(NumberParser.ROOT, parameters.get("investment"), parameters.get("profit_pct"),
+                parameters.get("charity_pct"), parameters.get("months"));
+        }
+
+        @Override
+        public Calculation calculate(InvestmentInputs inputs, RequestParameters parameters, boolean withSchedule) {
+            // Unknown names are reported as a bad request
+            CompoundingFrequency compounding = CompoundingFrequency.parse(parameters.get("compounding"));
+            CompoundingFrequency reporting = CompoundingFrequency.parse(parameters.get("reporting"));
+            InvestmentCalculatorResult result = CalculationCache.get(CalculationKey.investment(inputs.investment(),
+                inputs.profitPct(), inputs.charityPct(), inputs.months(), compounding, reporting,
+                MoneyRounding.parse(parameters.get("rounding"))));
+            String[] columns = COLUMNS.clone();
+            columns[0] = PERIODS[reporting.ordinal()];
+            return new Calculation("months", inputs.months(), SUMMARY, new double[] {inputs.investment(),
+                result.totalProfit(), result.totalCharity(), result.finalAmount()}, result.schedule(), columns);
+        }
+    }
+
+    private static final class GoalEndpoint implements Calculator<GoalPlannerInputs> {
+        private static final String[] COLUMNS = {"month", "total_invested", "investment_value", "monthly_profit", "charity"};
+        private static final String[] SUMMARY = {"total_investment", "final_investment_value", "last_month_profit"};
+
+        @Override
+        public Validated<GoalPlannerInputs> read(RequestParameters parameters) {
+            return GoalPlannerInputs.parse(NumberParser.ROOT, parameters.get("target_profit"),
+                parameters.get("monthly_investment"), parameters.get("profit_pct"), parameters.get("charity_pct"));
+        }
+
+        @Override
+        public Calculation calculate(GoalPlannerInputs inputs, RequestParameters parameters, boolean withSchedule) {
+            GoalPlannerResult result = CalculationCache.get(CalculationKey.goalPlanner(inputs.targetProfit(),
+                inputs.monthlyInvestment(), inputs.profitPct(), inputs.charityPct(), withSchedule,
+                MoneyRounding.parse(parameters.get("rounding"))));
+            if (result == null) {
+                return null;
+            }
+            return new Calculation("months_required", result.monthsRequired(), SUMMARY, new double[] {result.totalInvestment(),
+                result.finalInvestmentValue(), result.lastMonthProfit()}, result.schedule(), COLUMNS);
+        }
+    }
+
+    private static final class OneTimeEndpoint implements Calculator<OneTimeInvestmentInputs> {
+        private static final String[] COLUMNS = {"month", "investment_value", "monthly_profit", "charity", "remaining_profit"};
+        private static final String[] SUMMARY = {"one_time_investment", "total_profit", "total_charity", "final_amount"};
+
+        @Override
+        public Validated<OneTimeInvestmentInputs> read(RequestParameters parameters) {
+            return OneTimeInvestmentInputs.parse(NumberParser.ROOT, parameters.get("investment"),
+                parameters.get("target_profit"), parameters.get("profit_pct"), parameters.get("charity_pct"));
+        }
+
+        @Override
+        public Calculation calculate(OneTimeInvestmentInputs inputs, RequestParameters parameters, boolean withSchedule) {
+            OneTimeInvestmentResult result = CalculationCache.get(CalculationKey.oneTimeInvestment(inputs.investment(),
+                inputs.targetProfit(), inputs.profitPct(), inputs.charityPct(), withSchedule,
+                MoneyRounding.parse(parameters.get("rounding"))));
+            if (result == null) {
+                return null;
+            }
+            return new Calculation("months_required", result.monthsRequired(), SUMMARY, new double[] {result.oneTimeInvestment(),
+                result.totalProfit(), result.totalCharity(), result.finalAmount()}, result.schedule(), COLUMNS);
+        }
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            return new Thread(task, "http-worker-" + count.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package profitcalculation.service;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named request values from the query string and, for POST, a flat JSON object body such as
+ * {@code {"investment": 1000, "months": 12}}. Body values win over query values of the same name.
+ */
+final class RequestParameters {
+    private final Map<String, String> values = new HashMap<>();
+
+    RequestParameters(String query, String body) {
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    values.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)));
+                } else if (!pair.isEmpty()) {
+                    values.put(decode(pair), "");
+                }
+            }
+        }
+        if (body != null && !body.isBlank()) {
+            new FlatObjectReader(body).readInto(values);
+        }
+    }
+
+    /** The value as sent, or null when it is missing. */
+    String get(String name) {
+        return values.get(name);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number.");
+        }
+    }
+
+    boolean getBoolean(String name) {
+        String value = values.get(name);
+        return value != null && (value.isEmpty() || value.equalsIgnoreCase("true"));
+    }
+
+    private static String decode(String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+
+    /** Reads one JSON object whose values are strings, numbers, booleans or null. */
+    private static final class FlatObjectReader {
+        private final String text;
+        private int pos;
+
+        FlatObjectReader(String text) {
+            this.text = text;
+        }
+
+        void readInto(Map<String, String> values) {
+            expect('{');
+            if (peek() == '}') {
+                pos++;
+            } else {
+                do {
+                    String name = string();
+                    expect(':');
+                    String value = value();
+                    if (value != null) {
+                        values.put(name, value);
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            if (peek() != 0) {
+                throw error("Unexpected content after the object");
+            }
+        }
+
+        private String value() {
+            char c = peek();
+            if (c == '"') {
+                return string();
+            }
+            int start = pos;
+            while (pos < text.length() && "{}[]\",: \t\r\n".indexOf(text.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            if (literal.isEmpty()) {
+                throw error("Expected a string, number, boolean or null");
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\') {
+                    if (pos >= text.length()) {
+                        break;
+                    }
+                    char escaped = text.charAt(pos++);
+                    switch (escaped) {
+                        case 'n' -> value.append('\n');
+                        case 't' -> value.append('\t');
+                        case 'r' -> value.append('\r');
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'u' -> {
+                            if (pos + 4 > text.length()) {
+                                throw error("Bad unicode escape");
+                            }
+                            value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                            pos += 4;
+                        }
+                        default -> value.append(escaped);
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private char peek() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+            return pos < text.length() ? text.charAt(pos) : 0;
+        }
+
+        private boolean consume(char c) {
+            if (peek() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Body must be a flat JSON object: " + message + " at " + pos + ".");
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.FixedPointCalculator;
+import profitcalculation.engine.Schedule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encodes a schedule as fixed-width delta columns. Each column, the month column first, is a run
+ * of longs: the first one is kept whole and the rest as the difference from the row before,
+ * less the smallest difference, packed at the bit width the largest one needs. A steady column
+ * such as the month number packs to no bits at all, and decoding is one add per value.
+ *
+ * <p>Amounts are stored as minor units of {@link FixedPointCalculator#UNITS} when every amount
+ * in the column is a whole number of them, as with the fixed-point calculators, and as the
+ * double's raw bits otherwise, so a schedule always reads back exactly as saved.
+ *
+ * <p>Layout, little-endian: value column count and row count as ints, then per column a byte
+ * kind, a byte bit width, two unused bytes, the int count of packed longs, the long first value,
+ * the long smallest difference, and the packed longs.
+ */
+final class ColumnCodec {
+    private static final byte INTEGER = 0;
+    private static final byte UNITS = 1;
+    private static final byte BITS = 2;
+    private static final int SCHEDULE_HEADER = 8;
+    private static final int COLUMN_HEADER = 24;
+    /** More value columns than any calculator has, to reject a corrupt header early. */
+    private static final int MAX_VALUE_COLUMNS = 64;
+
+    private ColumnCodec() {
+    }
+
+    /**
+     * The encoded schedule, flipped and ready to write.
+     *
+     * @throws IllegalArgumentException if the encoding would not fit in 2 GB
+     */
+    static ByteBuffer encode(Schedule schedule) {
+        int rows = schedule.size();
+        int columns = schedule.getValueColumnCount() + 1;
+        byte[] kinds = new byte[columns];
+        long[][] raw = new long[columns][];
+        raw[0] = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            raw[0][row] = schedule.getMonth(row);
+        }
+        for (int column = 1; column < columns; column++) {
+            double[] amounts = new double[rows];
+            for (int row = 0; row < rows; row++) {
+                amounts[row] = schedule.getValue(row, column);
+            }
+            raw[column] = toUnits(amounts);
+            kinds[column] = raw[column] != null ? UNITS : BITS;
+            if (raw[column] == null) {
+                raw[column] = toBits(amounts);
+            }
+        }
+
+        long[] minDelta = new long[columns];
+        int[] width = new int[columns];
+        long bytes = SCHEDULE_HEADER;
+        for (int column = 0; column < columns; column++) {
+            long[] values = raw[column];
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int row = 1; row < rows; row++) {
+                long delta = values[row] - values[row - 1];
+                min = Math.min(min, delta);
+                max = Math.max(max, delta);
+            }
+            if (rows > 1) {
+                // The spread of two longs fits in 64 bits when read unsigned
+                minDelta[column] = min;
+                width[column] = 64 - Long.numberOfLeadingZeros(max - min);
+            }
+            bytes += COLUMN_HEADER + 8L * words(rows, width[column]);
+        }
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A schedule of " + rows + " rows is too large to save.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(columns - 1).putInt(rows);
+        for (int column = 0; column < columns; column++) {
+            long[] packed = pack(raw[column], minDelta[column], width[column]);
+            buffer.put(kinds[column]).put((byte) width[column]).putShort((short) 0).putInt(packed.length)
+                .putLong(rows > 0 ? raw[column][0] : 0).putLong(minDelta[column]);
+            buffer.asLongBuffer().put(packed);
+            buffer.position(buffer.position() + 8 * packed.length);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a schedule starting at the buffer's position, which must be little-endian.
+     *
+     * @throws IOException if the bytes are not a schedule written by {@link #encode}
+     */
+    static StoredSchedule decode(ByteBuffer data) throws IOException {
+        try {
+            int valueColumns = data.getInt();
+            int rows = data.getInt();
+            if (valueColumns < 0 || valueColumns > MAX_VALUE_COLUMNS || rows < 0) {
+                throw new IOException("Corrupt schedule header");
+            }
+            int[] months = new int[rows];
+            double[][] values = new double[valueColumns][rows];
+            long[] decoded = new long[rows];
+            for (int column = 0; column <= valueColumns; column++) {
+                byte kind = data.get();
+                int width = data.get();
+                data.getShort();
+                int words = data.getInt();
+                long first = data.getLong();
+                long minDelta = data.getLong();
+                boolean knownKind = column == 0 ? kind == INTEGER : kind == UNITS || kind == BITS;
+                if (!knownKind || width < 0 || width > 64 || words != words(rows, width)) {
+                    throw new IOException("Corrupt header of schedule column " + column);
+                }
+                long[] packed = new long[words];
+                data.asLongBuffer().get(packed);
+                data.position(data.position() + 8 * words);
+                unpack(packed, first, minDelta, width, decoded);
+
+                if (column == 0) {
+                    for (int row = 0; row < rows; row++) {
+                        months[row] = (int) decoded[row];
+                    }
+                } else if (kind == UNITS) {
+                    double[] amounts = values[column - 1];
+                    for (int row = 0; row < rows; row++) {
+                        amounts[row] = decoded[row] / (double) FixedPointCalculator.UNITS;
+                    }
+                } else {
+                    double[] amounts = values[column - 1];
+                    for (int row = 0; row < rows; row++) {
+                        amounts[row] = Double.longBitsToDouble(decoded[row]);
+                    }
+                }
+            }
+            return new StoredSchedule(months, values);
+        } catch (RuntimeException e) {
+            // A length that runs past the end of the stored bytes
+            throw new IOException("Corrupt schedule", e);
+        }
+    }
+
+    /** The amounts in minor units, or null if any of them is not a whole number of units. */
+    private static long[] toUnits(double[] amounts) {
+        long[] units = new long[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            units[i] = Math.round(amounts[i] * FixedPointCalculator.UNITS);
+            // Also rules out NaN, infinities, -0 and amounts beyond a long
+            if (Double.doubleToRawLongBits(units[i] / (double) FixedPointCalculator.UNITS)
+                    != Double.doubleToRawLongBits(amounts[i])) {
+                return null;
+            }
+        }
+        return units;
+    }
+
+    private static long[] toBits(double[] amounts) {
+        long[] bits = new long[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            bits[i] = Double.doubleToRawLongBits(amounts[i]);
+        }
+        return bits;
+    }
+
+    private static int words(int rows, int width) {
+        return rows < 2 ? 0 : (int) (((long) (rows - 1) * width + 63) >>> 6);
+    }
+
+    private static long[] pack(long[] values, long minDelta, int width) {
+        long[] packed = new long[words(values.length, width)];
+        if (width == 0) {
+            return packed;
+        }
+        for (int row = 1; row < values.length; row++) {
+            long offset = values[row] - values[row - 1] - minDelta;
+            long bit = (long) (row - 1) * width;
+            int word = (int) (bit >>> 6);
+            int shift = (int) (bit & 63);
+            packed[word] |= offset << shift;
+            if (shift + width > 64) {
+                packed[word + 1] |= offset >>> (64 - shift);
+            }
+        }
+        return packed;
+    }
+
+    private static void unpack(long[] packed, long first, long minDelta, int width, long[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        long value = first;
+        values[0] = value;
+        if (width == 0) {
+            for (int row = 1; row < values.length; row++) {
+                value += minDelta;
+                values[row] = value;
+            }
+            return;
+        }
+        long mask = width == 64 ? -1L : (1L << width) - 1;
+        long bit = 0;
+        for (int row = 1; row < values.length; row++, bit += width) {
+            int word = (int) (bit >>> 6);
+            int shift = (int) (bit & 63);
+            long offset = packed[word] >>> shift;
+            if (shift + width > 64) {
+                offset |= packed[word + 1] << (64 - shift);
+            }
+            value += (offset & mask) + minDelta;
+            values[row] = value;
+        }
+    }
+}
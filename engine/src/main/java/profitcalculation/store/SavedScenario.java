@@ -0,0 +1,41 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.Schedule;
+
+import java.time.Instant;
+
+/**
+ * One entry of a {@link ScenarioStore}'s index. Everything here is read from the index alone;
+ * the schedule stays on disk until {@link ScenarioStore#load} is called with the entry.
+ *
+ * @param id position in the store, from 0 in the order saved
+ * @param savedAt milliseconds since the epoch
+ * @param rows rows of the saved schedule
+ */
+public record SavedScenario(int id, String name, long savedAt, ScenarioParameters parameters,
+                            ScenarioSummary summary, int rows) {
+
+    public CalculatorType calculator() {
+        return parameters.calculator();
+    }
+
+    public Instant savedInstant() {
+        return Instant.ofEpochMilli(savedAt);
+    }
+
+    /** The Investment Calculator result this entry was saved from, over its loaded schedule. */
+    public InvestmentCalculatorResult investmentResult(Schedule schedule) {
+        requireCalculator(CalculatorType.INVESTMENT);
+        return new InvestmentCalculatorResult(summary.totalProfit(), summary.totalCharity(), summary.finalAmount(),
+            schedule);
+    }
+
+    private void requireCalculator(CalculatorType calculator) {
+        if (calculator() != calculator) {
+            throw new IllegalStateException("Scenario \"" + name + "\" was saved from the " + calculator().getId()
+                + " calculator, not " + calculator.getId());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.MoneyRounding;
+
+/**
+ * What a saved scenario was calculated from. Fields the calculator does not take are zero, and
+ * frequencies other than the Investment Calculator's are monthly.
+ *
+ * @param months the Investment Calculator's horizon; the other calculators solve for it
+ * @param rounding the fixed-point rounding, or null for floating point
+ */
+public record ScenarioParameters(CalculatorType calculator, double investment, double monthlyInvestment,
+                                 double targetProfit, double profitPct, double charityPct, int months,
+                                 CompoundingFrequency compounding, CompoundingFrequency reporting,
+                                 MoneyRounding rounding) {
+
+    public static ScenarioParameters investment(InvestmentInputs inputs, CompoundingFrequency compounding,
+                                                CompoundingFrequency reporting, MoneyRounding rounding) {
+        return new ScenarioParameters(CalculatorType.INVESTMENT, inputs.investment(), 0, 0, inputs.profitPct(),
+            inputs.charityPct(), inputs.months(), compounding, reporting, rounding);
+    }
+}
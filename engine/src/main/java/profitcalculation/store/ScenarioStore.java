@@ -0,0 +1,402 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.MoneyRounding;
+import profitcalculation.engine.Schedule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Saved scenarios and their schedules in two memory-mapped files in one directory. The index,
+ * {@value #INDEX_FILE}, holds a fixed-size record per scenario with its name, calculator,
+ * parameters, totals and where its schedule starts in the data file, {@value #DATA_FILE}, which
+ * holds each schedule as the fixed-width delta columns of {@link ColumnCodec}.
+ *
+ * <p>Listing and filtering read only the index. Loading a schedule decodes its columns straight
+ * from the mapped data file, with no text to parse and nothing recalculated.
+ *
+ * <p>Scenarios are only ever appended. A save writes and syncs the schedule first, then the
+ * index record, and only then counts it, so a save cut short leaves the store as it was. The
+ * directory is locked while open, so one process at a time uses it; within that process the
+ * methods may be called from any thread.
+ */
+public final class ScenarioStore implements Closeable {
+    /** Directory {@link #openDefault()} uses instead of {@code ~/.investment-app/scenarios}. */
+    public static final String DIRECTORY_PROPERTY = "investment.scenarios.dir";
+    public static final String INDEX_FILE = "scenarios.idx";
+    public static final String DATA_FILE = "scenarios.dat";
+    /** Longest name kept, in UTF-8 bytes; longer names are cut at a character boundary. */
+    public static final int MAX_NAME_BYTES = 71;
+
+    private static final int INDEX_MAGIC = 0x58444953; // "SIDX"
+    private static final int DATA_MAGIC = 0x54414453; // "SDAT"
+    private static final int VERSION = 1;
+    private static final int INDEX_HEADER = 16;
+    private static final int COUNT_OFFSET = 8;
+    private static final int DATA_HEADER = 8;
+    private static final int RECORD_BYTES = 192;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Field offsets within an index record
+    private static final int DATA_OFFSET = 0;
+    private static final int DATA_LENGTH = 8;
+    private static final int ROWS = 12;
+    private static final int SAVED_AT = 16;
+    private static final int CALCULATOR = 24;
+    private static final int COMPOUNDING = 25;
+    private static final int REPORTING = 26;
+    private static final int ROUNDING = 27;
+    private static final int MONTHS = 28;
+    private static final int INVESTMENT = 32;
+    private static final int MONTHLY_INVESTMENT = 40;
+    private static final int TARGET_PROFIT = 48;
+    private static final int PROFIT_PCT = 56;
+    private static final int CHARITY_PCT = 64;
+    private static final int SUMMARY_MONTHS = 72;
+    private static final int TOTAL_INVESTMENT = 80;
+    private static final int TOTAL_PROFIT = 88;
+    private static final int TOTAL_CHARITY = 96;
+    private static final int FINAL_AMOUNT = 104;
+    private static final int LAST_MONTH_PROFIT = 112;
+    private static final int NAME_LENGTH = 120;
+    private static final int NAME = 121;
+
+    private final Path directory;
+    private final FileChannel indexChannel;
+    private final FileChannel dataChannel;
+    private final FileLock lock;
+    private MappedByteBuffer index;
+    private MappedByteBuffer data;
+    private int count;
+    private long dataEnd;
+
+    private ScenarioStore(Path directory, FileChannel indexChannel, FileChannel dataChannel, FileLock lock) {
+        this.directory = directory;
+        this.indexChannel = indexChannel;
+        this.dataChannel = dataChannel;
+        this.lock = lock;
+    }
+
+    /**
+     * Opens the store in the given directory, creating the directory and an empty store if
+     * needed.
+     *
+     * @throws IOException if the files cannot be opened, are not a store, or another process
+     *     has the store open
+     */
+    public static ScenarioStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel indexChannel = FileChannel.open(directory.resolve(INDEX_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel dataChannel = null;
+        FileLock lock = null;
+        try {
+            try {
+                lock = indexChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // Already open elsewhere in this JVM
+            }
+            if (lock == null) {
+                throw new IOException("Saved scenarios in " + directory + " are in use by another window or process.");
+            }
+            dataChannel = FileChannel.open(directory.resolve(DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ScenarioStore store = new ScenarioStore(directory, indexChannel, dataChannel, lock);
+            store.load();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            if (dataChannel != null) {
+                dataChannel.close();
+            }
+            indexChannel.close();
+            throw e;
+        }
+    }
+
+    /** Opens the store in the {@value #DIRECTORY_PROPERTY} directory, or the default one. */
+    public static ScenarioStore openDefault() throws IOException {
+        return open(defaultDirectory());
+    }
+
+    public static Path defaultDirectory() {
+        String dir = System.getProperty(DIRECTORY_PROPERTY);
+        return dir != null && !dir.isBlank()
+            ? Path.of(dir)
+            : Path.of(System.getProperty("user.home"), ".investment-app", "scenarios");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /** Number of saved scenarios. */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Appends a scenario and its schedule and returns its entry. The name is trimmed and kept
+     * to {@value #MAX_NAME_BYTES} UTF-8 bytes.
+     *
+     * @throws IllegalArgumentException if there is no schedule, or it is too large to save
+     * @throws IOException if the files cannot be written
+     */
+    public synchronized SavedScenario save(String name, ScenarioParameters parameters, ScenarioSummary summary,
+                                           Schedule schedule) throws IOException {
+        ensureOpen();
+        if (schedule == null) {
+            throw new IllegalArgumentException("Only a scenario with its schedule can be saved.");
+        }
+        byte[] nameBytes = truncate(name == null ? "" : name.trim());
+        ByteBuffer encoded = ColumnCodec.encode(schedule);
+        int length = encoded.remaining();
+        long offset = dataEnd;
+        if (offset + length > Integer.MAX_VALUE) {
+            throw new IOException("The scenario file is full; it can hold up to 2 GB of schedules.");
+        }
+        while (encoded.hasRemaining()) {
+            dataChannel.write(encoded, offset + encoded.position());
+        }
+        dataChannel.force(false);
+
+        if (count == capacity()) {
+            index = mapIndex(capacity() * 2);
+        }
+        SavedScenario saved = new SavedScenario(count, new String(nameBytes, StandardCharsets.UTF_8),
+            System.currentTimeMillis(), parameters, summary, schedule.size());
+        writeRecord(recordOffset(count), saved, offset, length, nameBytes);
+        index.force();
+        index.putInt(COUNT_OFFSET, count + 1);
+        index.force();
+        count++;
+        dataEnd = offset + length;
+        return saved;
+    }
+
+    /** Every saved scenario, oldest first, read from the index alone. */
+    public List<SavedScenario> list() {
+        return list(scenario -> true);
+    }
+
+    /** The saved scenarios of one calculator, oldest first. */
+    public List<SavedScenario> list(CalculatorType calculator) {
+        return list(scenario -> scenario.calculator() == calculator);
+    }
+
+    /** The saved scenarios that match, oldest first, without loading any schedule. */
+    public synchronized List<SavedScenario> list(Predicate<? super SavedScenario> filter) {
+        ensureOpen();
+        List<SavedScenario> matches = new ArrayList<>();
+        for (int id = 0; id < count; id++) {
+            SavedScenario scenario = readRecord(id);
+            if (filter.test(scenario)) {
+                matches.add(scenario);
+            }
+        }
+        return matches;
+    }
+
+    /** The entry with the given id. */
+    public synchronized SavedScenario get(int id) {
+        ensureOpen();
+        if (id < 0 || id >= count) {
+            throw new IndexOutOfBoundsException("No saved scenario " + id + " of " + count);
+        }
+        return readRecord(id);
+    }
+
+    /**
+     * Decodes the schedule saved with an entry of this store.
+     *
+     * @throws IOException if the stored bytes are damaged
+     */
+    public synchronized Schedule load(SavedScenario scenario) throws IOException {
+        ensureOpen();
+        if (scenario.id() < 0 || scenario.id() >= count) {
+            throw new IllegalArgumentException("Scenario \"" + scenario.name() + "\" is not in this store.");
+        }
+        int record = recordOffset(scenario.id());
+        long offset = index.getLong(record + DATA_OFFSET);
+        int length = index.getInt(record + DATA_LENGTH);
+        if (offset + length > data.capacity()) {
+            data = mapData();
+        }
+        return ColumnCodec.decode(data.slice((int) offset, length).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Whether the store can still be used. An interrupt during I/O closes its files, after which
+     * it has to be closed and opened again.
+     */
+    public synchronized boolean isOpen() {
+        return index != null && indexChannel.isOpen() && dataChannel.isOpen();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (index == null) {
+            return;
+        }
+        index = null;
+        data = null;
+        try (indexChannel; dataChannel) {
+            if (lock.isValid()) {
+                lock.release();
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        if (indexChannel.size() == 0) {
+            index = mapIndex(INITIAL_CAPACITY);
+            index.putInt(0, INDEX_MAGIC).putInt(4, VERSION).putInt(COUNT_OFFSET, 0);
+            index.force();
+        } else {
+            if (indexChannel.size() < INDEX_HEADER) {
+                throw new IOException(INDEX_FILE + " in " + directory + " is not a scenario index.");
+            }
+            index = mapIndex((int) ((indexChannel.size() - INDEX_HEADER) / RECORD_BYTES));
+            if (index.getInt(0) != INDEX_MAGIC) {
+                throw new IOException(INDEX_FILE + " in " + directory + " is not a scenario index.");
+            }
+            if (index.getInt(4) != VERSION) {
+                throw new IOException(INDEX_FILE + " in " + directory + " is from a newer version of the app.");
+            }
+        }
+        count = index.getInt(COUNT_OFFSET);
+        if (count < 0 || count > capacity()) {
+            throw new IOException(INDEX_FILE + " in " + directory + " is damaged.");
+        }
+
+        if (dataChannel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(DATA_MAGIC).putInt(VERSION).flip();
+            while (header.hasRemaining()) {
+                dataChannel.write(header, header.position());
+            }
+        }
+        data = mapData();
+        if (data.capacity() < DATA_HEADER || data.getInt(0) != DATA_MAGIC) {
+            throw new IOException(DATA_FILE + " in " + directory + " is not a scenario data file.");
+        }
+        dataEnd = DATA_HEADER;
+        if (count > 0) {
+            int last = recordOffset(count - 1);
+            dataEnd = index.getLong(last + DATA_OFFSET) + index.getInt(last + DATA_LENGTH);
+        }
+        if (dataEnd > data.capacity()) {
+            throw new IOException(DATA_FILE + " in " + directory + " is shorter than its index says.");
+        }
+    }
+
+    private int capacity() {
+        return (index.capacity() - INDEX_HEADER) / RECORD_BYTES;
+    }
+
+    private MappedByteBuffer mapIndex(int capacity) throws IOException {
+        long bytes = INDEX_HEADER + (long) Math.max(capacity, INITIAL_CAPACITY) * RECORD_BYTES;
+        MappedByteBuffer mapped = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    private MappedByteBuffer mapData() throws IOException {
+        long bytes = Math.min(dataChannel.size(), Integer.MAX_VALUE);
+        MappedByteBuffer mapped = dataChannel.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    private static int recordOffset(int id) {
+        return INDEX_HEADER + id * RECORD_BYTES;
+    }
+
+    private void writeRecord(int at, SavedScenario saved, long offset, int length, byte[] nameBytes) {
+        ScenarioParameters parameters = saved.parameters();
+        ScenarioSummary summary = saved.summary();
+        index.putLong(at + DATA_OFFSET, offset)
+            .putInt(at + DATA_LENGTH, length)
+            .putInt(at + ROWS, saved.rows())
+            .putLong(at + SAVED_AT, saved.savedAt())
+            .put(at + CALCULATOR, (byte) parameters.calculator().ordinal())
+            .put(at + COMPOUNDING, (byte) parameters.compounding().ordinal())
+            .put(at + REPORTING, (byte) parameters.reporting().ordinal())
+            .put(at + ROUNDING, (byte) (parameters.rounding() == null ? -1 : parameters.rounding().ordinal()))
+            .putInt(at + MONTHS, parameters.months())
+            .putDouble(at + INVESTMENT, parameters.investment())
+            .putDouble(at + MONTHLY_INVESTMENT, parameters.monthlyInvestment())
+            .putDouble(at + TARGET_PROFIT, parameters.targetProfit())
+            .putDouble(at + PROFIT_PCT, parameters.profitPct())
+            .putDouble(at + CHARITY_PCT, parameters.charityPct())
+            .putInt(at + SUMMARY_MONTHS, summary.months())
+            .putDouble(at + TOTAL_INVESTMENT, summary.totalInvestment())
+            .putDouble(at + TOTAL_PROFIT, summary.totalProfit())
+            .putDouble(at + TOTAL_CHARITY, summary.totalCharity())
+            .putDouble(at + FINAL_AMOUNT, summary.finalAmount())
+            .putDouble(at + LAST_MONTH_PROFIT, summary.lastMonthProfit())
+            .put(at + NAME_LENGTH, (byte) nameBytes.length)
+            .put(at + NAME, nameBytes);
+    }
+
+    private SavedScenario readRecord(int id) {
+        int at = recordOffset(id);
+        byte rounding = index.get(at + ROUNDING);
+        ScenarioParameters parameters = new ScenarioParameters(
+            CalculatorType.values()[index.get(at + CALCULATOR)],
+            index.getDouble(at + INVESTMENT),
+            index.getDouble(at + MONTHLY_INVESTMENT),
+            index.getDouble(at + TARGET_PROFIT),
+            index.getDouble(at + PROFIT_PCT),
+            index.getDouble(at + CHARITY_PCT),
+            index.getInt(at + MONTHS),
+            CompoundingFrequency.values()[index.get(at + COMPOUNDING)],
+            CompoundingFrequency.values()[index.get(at + REPORTING)],
+            rounding < 0 ? null : MoneyRounding.values()[rounding]);
+        ScenarioSummary summary = new ScenarioSummary(
+            index.getInt(at + SUMMARY_MONTHS),
+            index.getDouble(at + TOTAL_INVESTMENT),
+            index.getDouble(at + TOTAL_PROFIT),
+            index.getDouble(at + TOTAL_CHARITY),
+            index.getDouble(at + FINAL_AMOUNT),
+            index.getDouble(at + LAST_MONTH_PROFIT));
+        byte[] name = new byte[index.get(at + NAME_LENGTH)];
+        index.get(at + NAME, name);
+        return new SavedScenario(id, new String(name, StandardCharsets.UTF_8), index.getLong(at + SAVED_AT),
+            parameters, summary, index.getInt(at + ROWS));
+    }
+
+    /** The name's UTF-8 bytes, cut to {@link #MAX_NAME_BYTES} without splitting a character. */
+    private static byte[] truncate(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) {
+            return bytes;
+        }
+        int end = MAX_NAME_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    private void ensureOpen() {
+        if (!isOpen()) {
+            throw new IllegalStateException("The scenario store is closed.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.Schedule;
+
+/**
+ * A saved scenario's totals, the same figures as a batch result record. Figures the calculator
+ * does not report are zero; the Goal Planner's final investment value is the final amount.
+ */
+public record ScenarioSummary(int months, double totalInvestment, double totalProfit, double totalCharity,
+                              double finalAmount, double lastMonthProfit) {
+
+    public static ScenarioSummary of(ScenarioParameters parameters, InvestmentCalculatorResult result) {
+        return new ScenarioSummary(parameters.months(), parameters.investment(), result.totalProfit(),
+            result.totalCharity(), result.finalAmount(), lastValue(result.schedule(), 1));
+    }
+
+    private static double lastValue(Schedule schedule, int column) {
+        return schedule == null || schedule.size() == 0 ? 0 : schedule.getValue(schedule.size() - 1, column);
+    }
+}
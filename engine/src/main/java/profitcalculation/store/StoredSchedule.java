@@ -0,0 +1,26 @@
+package profitcalculation.store;
+
+import profitcalculation.engine.Schedule;
+
+/** A schedule decoded from a {@link ScenarioStore}, held column by column. */
+final class StoredSchedule implements Schedule {
+    private final int[] months;
+    private final double[][] values;
+
+    StoredSchedule(int[] months, double[][] values) {
+        this.months = months;
+        this.values = values;
+    }
+
+    @Override
+    public int size() { return months.length; }
+
+    @Override
+    public int getValueColumnCount() { return values.length; }
+
+    @Override
+    public int getMonth(int row) { return months[row]; }
+
+    @Override
+    public double getValue(int row, int column) { return values[column - 1][row]; }
+}
@@ -0,0 +1,234 @@
+package profitcalculation.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the fixed-point calculators month by month against plain BigDecimal loops at scale 4,
+ * each month's profit and then its charity rounded with the same rule.
+ */
+class FixedPointCalculatorTest {
+    private static final int SCALE = 4;
+
+    /** Amount, monthly profit %, charity % and months, with rates that round often and ties. */
+    private static final double[][] CASES = {
+        {10000, 1, 10, 120},
+        {3800000, 2, 15, 48},
+        {1234.5678, 0.8333, 12.5, 360},
+        {0.05, 50, 50, 24},
+        {999999.99, 1.25, 33.333333, 240},
+        {250, 0.000001, 0, 12},
+    };
+
+    static Stream<Arguments> cases() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (MoneyRounding rounding : MoneyRounding.values()) {
+            for (double[] c : CASES) {
+                arguments.add(Arguments.of(rounding, c[0], c[1], c[2], (int) c[3]));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void investmentMatchesBigDecimal(MoneyRounding rounding, double investment, double profitPct, double charityPct,
+                                     int months) {
+        RoundingMode mode = rounding.getMode();
+        BigDecimal rate = rate(profitPct);
+        BigDecimal charityRate = rate(charityPct);
+        BigDecimal value = amount(investment);
+        BigDecimal totalProfit = BigDecimal.ZERO;
+        BigDecimal totalCharity = BigDecimal.ZERO;
+
+        InvestmentCalculatorResult result = FixedPointCalculator.investment(investment, profitPct, charityPct, months,
+            rounding, true);
+        Schedule schedule = result.schedule();
+        assertEquals(months, schedule.size());
+        for (int month = 1; month <= months; month++) {
+            BigDecimal profit = value.multiply(rate).setScale(SCALE, mode);
+            BigDecimal charity = profit.multiply(charityRate).setScale(SCALE, mode);
+            value = value.add(profit).subtract(charity);
+            totalProfit = totalProfit.add(profit);
+            totalCharity = totalCharity.add(charity);
+            int row = month - 1;
+            assertEquals(month, schedule.getMonth(row));
+            assertEquals(profit.doubleValue(), schedule.getValue(row, 1), "profit in month " + month);
+            assertEquals(charity.doubleValue(), schedule.getValue(row, 2), "charity in month " + month);
+            assertEquals(value.doubleValue(), schedule.getValue(row, 3), "value in month " + month);
+        }
+        assertEquals(totalProfit.doubleValue(), result.totalProfit());
+        assertEquals(totalCharity.doubleValue(), result.totalCharity());
+        assertEquals(value.doubleValue(), result.finalAmount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void goalPlannerMatchesBigDecimal(MoneyRounding rounding, double monthlyInvest, double profitPct,
+                                      double charityPct, int months) {
+        // A target first reached in about the given month
+        double target = referenceGoalProfit(monthlyInvest, profitPct, charityPct, months, rounding.getMode());
+        GoalPlannerResult expected = referenceGoalPlanner(target, monthlyInvest, profitPct, charityPct,
+            rounding.getMode());
+        GoalPlannerResult actual = FixedPointCalculator.goalPlanner(target, monthlyInvest, profitPct, charityPct,
+            rounding, true);
+        assertNotNull(expected);
+        assertNotNull(actual);
+        assertEquals(expected.monthsRequired(), actual.monthsRequired());
+        assertEquals(expected.totalInvestment(), actual.totalInvestment());
+        assertEquals(expected.finalInvestmentValue(), actual.finalInvestmentValue());
+        assertEquals(expected.lastMonthProfit(), actual.lastMonthProfit());
+        assertEquals(expected.monthsRequired(), actual.schedule().size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void oneTimeInvestmentMatchesBigDecimal(MoneyRounding rounding, double investment, double profitPct,
+                                            double charityPct, int months) {
+        double target = referenceOneTimeProfit(investment, profitPct, charityPct, months, rounding.getMode());
+        OneTimeInvestmentResult expected = referenceOneTimeInvestment(investment, target, profitPct, charityPct,
+            rounding.getMode());
+        OneTimeInvestmentResult actual = FixedPointCalculator.oneTimeInvestment(investment, target, profitPct,
+            charityPct, rounding, true);
+        assertNotNull(expected);
+        assertNotNull(actual);
+        assertEquals(expected.monthsRequired(), actual.monthsRequired());
+        assertEquals(expected.totalProfit(), actual.totalProfit());
+        assertEquals(expected.totalCharity(), actual.totalCharity());
+        assertEquals(expected.finalAmount(), actual.finalAmount());
+        assertEquals(expected.monthsRequired(), actual.schedule().size());
+    }
+
+    @Test
+    void goalPlannerReportsUnreachableTargets() {
+        assertNull(FixedPointCalculator.goalPlanner(100, 0, 1, 10, MoneyRounding.HALF_EVEN, false));
+        assertNull(FixedPointCalculator.goalPlanner(100, 1000, 0, 10, MoneyRounding.HALF_UP, false));
+    }
+
+    /** Balances up to just below Long.MAX_VALUE minor units still match, through the split multiply. */
+    @Test
+    void largeBalancesMatchBigDecimal() {
+        for (MoneyRounding rounding : MoneyRounding.values()) {
+            BigDecimal value = amount(9.2e14);
+            BigDecimal rate = rate(0.1);
+            for (int month = 0; month < 2; month++) {
+                value = value.add(value.multiply(rate).setScale(SCALE, rounding.getMode()));
+            }
+            assertEquals(value.doubleValue(),
+                FixedPointCalculator.investment(9.2e14, 0.1, 0, 2, rounding, false).finalAmount());
+        }
+    }
+
+    @Test
+    void balancesBeyondALongAreRejected() {
+        for (MoneyRounding rounding : MoneyRounding.values()) {
+            assertThrows(IllegalArgumentException.class,
+                () -> FixedPointCalculator.investment(9.2e14, 0.1, 0, 3, rounding, false));
+            assertThrows(IllegalArgumentException.class,
+                () -> FixedPointCalculator.oneTimeInvestment(9.2e14, 1e15, 0.1, 0, rounding, false));
+            // Each of these wrapped negative and went on with a wrong month count or no answer
+            assertThrows(IllegalArgumentException.class,
+                () -> FixedPointCalculator.goalPlanner(8e14, 1e11, 90, 0, rounding, false));
+            assertThrows(IllegalArgumentException.class,
+                () -> FixedPointCalculator.goalPlanner(6e14, 1e9, 20, 0, rounding, false));
+            assertThrows(IllegalArgumentException.class,
+                () -> FixedPointCalculator.goalPlanner(4e14, 1e10, 50, 0, rounding, false));
+        }
+    }
+
+    private static GoalPlannerResult referenceGoalPlanner(double targetProfit, double monthlyInvest, double profitPct,
+                                                          double charityPct, RoundingMode mode) {
+        BigDecimal target = amount(targetProfit);
+        BigDecimal deposit = amount(monthlyInvest);
+        BigDecimal rate = rate(profitPct);
+        BigDecimal charityRate = rate(charityPct);
+        BigDecimal value = BigDecimal.ZERO;
+        for (int month = 1; month <= GoalPlanner.MAX_MONTHS; month++) {
+            value = value.add(deposit);
+            BigDecimal profit = value.multiply(rate).setScale(SCALE, mode);
+            BigDecimal charity = profit.multiply(charityRate).setScale(SCALE, mode);
+            if (profit.compareTo(target) >= 0) {
+                return new GoalPlannerResult(month, deposit.multiply(BigDecimal.valueOf(month)).doubleValue(),
+                    value.doubleValue(), profit.doubleValue(), null);
+            }
+            value = value.add(profit).subtract(charity);
+        }
+        return null;
+    }
+
+    /** The rounded profit of the given month of the Goal Planner, to use as its target. */
+    private static double referenceGoalProfit(double monthlyInvest, double profitPct, double charityPct, int months,
+                                              RoundingMode mode) {
+        BigDecimal deposit = amount(monthlyInvest);
+        BigDecimal rate = rate(profitPct);
+        BigDecimal charityRate = rate(charityPct);
+        BigDecimal value = BigDecimal.ZERO;
+        BigDecimal profit = BigDecimal.ZERO;
+        for (int month = 1; month <= months; month++) {
+            value = value.add(deposit);
+            profit = value.multiply(rate).setScale(SCALE, mode);
+            value = value.add(profit).subtract(profit.multiply(charityRate).setScale(SCALE, mode));
+        }
+        return profit.doubleValue();
+    }
+
+    private static OneTimeInvestmentResult referenceOneTimeInvestment(double investment, double targetProfit,
+                                                                      double profitPct, double charityPct,
+                                                                      RoundingMode mode) {
+        BigDecimal target = amount(targetProfit);
+        BigDecimal rate = rate(profitPct);
+        BigDecimal charityRate = rate(charityPct);
+        BigDecimal value = amount(investment);
+        BigDecimal totalProfit = BigDecimal.ZERO;
+        BigDecimal totalCharity = BigDecimal.ZERO;
+        for (int month = 1; month <= OneTimeInvestment.MAX_MONTHS; month++) {
+            BigDecimal profit = value.multiply(rate).setScale(SCALE, mode);
+            BigDecimal charity = profit.multiply(charityRate).setScale(SCALE, mode);
+            value = value.add(profit).subtract(charity);
+            totalProfit = totalProfit.add(profit);
+            totalCharity = totalCharity.add(charity);
+            if (profit.compareTo(target) >= 0) {
+                return new OneTimeInvestmentResult(investment, targetProfit, profitPct, charityPct, month,
+                    totalProfit.doubleValue(), totalCharity.doubleValue(), value.doubleValue(), null);
+            }
+        }
+        return null;
+    }
+
+    /** The rounded profit of the given month of a one-time investment, to use as its target. */
+    private static double referenceOneTimeProfit(double investment, double profitPct, double charityPct, int months,
+                                                 RoundingMode mode) {
+        BigDecimal rate = rate(profitPct);
+        BigDecimal charityRate = rate(charityPct);
+        BigDecimal value = amount(investment);
+        BigDecimal profit = BigDecimal.ZERO;
+        for (int month = 1; month <= months; month++) {
+            profit = value.multiply(rate).setScale(SCALE, mode);
+            value = value.add(profit).subtract(profit.multiply(charityRate).setScale(SCALE, mode));
+        }
+        return profit.doubleValue();
+    }
+
+    /** The amount as typed; every case has at most four decimals, so no rounding is involved. */
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.UNNECESSARY);
+    }
+
+    /** A percentage as an exact fraction. */
+    private static BigDecimal rate(double pct) {
+        return BigDecimal.valueOf(pct).movePointLeft(2);
+    }
+}
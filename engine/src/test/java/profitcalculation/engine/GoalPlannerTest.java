@@ -0,0 +1,109 @@
+package profitcalculation.engine;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the closed-form solver against the month-by-month loop it replaced: the same month
+ * count, and the same amounts to the cent, for targets that fall exactly on a month's profit,
+ * just past it and between months, as well as for goals reached in the first month and goals
+ * that are never reached.
+ */
+class GoalPlannerTest {
+    private static final double[] RATES = {0, 0.0001, 0.01, 0.5, 1, 2.5, 7, 33.333333};
+    private static final double[] CHARITIES = {0, 12.5, 100};
+    private static final double[] DEPOSITS = {0, 0.01, 100, 1234.56, 50000};
+    private static final int[] BOUNDARY_MONTHS = {1, 2, 3, 12, 120, 1200, GoalPlanner.MAX_MONTHS};
+    private static final double MAX_TARGET = 1e9;
+    // Over thousands of months the loop's own rounding drifts by a cent on larger amounts
+    private static final double MAX_AMOUNT = 1e10;
+    private static final double CENT = 0.005;
+
+    static Stream<Arguments> goals() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (double rate : RATES) {
+            for (double charity : CHARITIES) {
+                for (double deposit : DEPOSITS) {
+                    add(arguments, 0, deposit, rate, charity);
+                    add(arguments, MAX_TARGET, deposit, rate, charity);
+                    double[] profits = loopProfits(deposit, rate, charity);
+                    for (int month : BOUNDARY_MONTHS) {
+                        double profit = profits[month - 1];
+                        if (profit > 0 && profit <= MAX_TARGET) {
+                            add(arguments, profit, deposit, rate, charity);
+                            add(arguments, Math.nextUp(profit), deposit, rate, charity);
+                            add(arguments, profit * 0.999, deposit, rate, charity);
+                        }
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    /** Adds the case unless its amounts are too large to compare to the cent. */
+    private static void add(List<Arguments> arguments, double targetProfit,
+                            double deposit, double rate, double charity) {
+        GoalPlannerResult expected = loop(targetProfit, deposit, rate, charity);
+        if (expected == null || expected.finalInvestmentValue() <= MAX_AMOUNT) {
+            arguments.add(Arguments.of(targetProfit, deposit, rate, charity));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("goals")
+    void closedFormMatchesMonthlyLoop(double targetProfit, double monthlyInvest, double ratePct, double charityPct) {
+        GoalPlannerResult expected = loop(targetProfit, monthlyInvest, ratePct, charityPct);
+        GoalPlannerResult actual = GoalPlanner.compute(targetProfit, monthlyInvest, ratePct, charityPct, false);
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertNotNull(actual);
+        assertEquals(expected.monthsRequired(), actual.monthsRequired());
+        assertEquals(expected.totalInvestment(), actual.totalInvestment(), CENT);
+        assertEquals(expected.finalInvestmentValue(), actual.finalInvestmentValue(), CENT);
+        assertEquals(expected.lastMonthProfit(), actual.lastMonthProfit(), CENT);
+    }
+
+    /** The original loop, stopped at {@link GoalPlanner#MAX_MONTHS} instead of running forever. */
+    private static GoalPlannerResult loop(double targetProfit, double monthlyInvest, double ratePct, double charityPct) {
+        double rate = ratePct / 100.0;
+        double charityRate = charityPct / 100.0;
+        double currentValue = 0;
+        for (int month = 1; month <= GoalPlanner.MAX_MONTHS; month++) {
+            currentValue += monthlyInvest;
+            double profit = currentValue * rate;
+            double charity = profit * charityRate;
+            if (profit >= targetProfit) {
+                return new GoalPlannerResult(month, month * monthlyInvest, currentValue, profit, null);
+            }
+            currentValue += profit - charity;
+        }
+        return null;
+    }
+
+    /** Each month's profit in the original loop, to aim targets at. */
+    private static double[] loopProfits(double monthlyInvest, double ratePct, double charityPct) {
+        double rate = ratePct / 100.0;
+        double charityRate = charityPct / 100.0;
+        double[] profits = new double[GoalPlanner.MAX_MONTHS];
+        double currentValue = 0;
+        for (int month = 1; month <= GoalPlanner.MAX_MONTHS; month++) {
+            currentValue += monthlyInvest;
+            double profit = currentValue * rate;
+            profits[month - 1] = profit;
+            currentValue += profit - profit * charityRate;
+        }
+        return profits;
+    }
+}
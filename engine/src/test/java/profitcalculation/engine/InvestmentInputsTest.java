@@ -0,0 +1,35 @@
+package profitcalculation.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvestmentInputsTest {
+    @Test
+    void acceptsTheLongestHorizon() {
+        Validated<InvestmentInputs> inputs = InvestmentInputs.parse(NumberParser.ROOT, "1000", "1", "10",
+            Integer.toString(InvestmentInputs.MAX_MONTHS));
+        assertTrue(inputs.isValid());
+        assertEquals(InvestmentInputs.MAX_MONTHS, inputs.value().months());
+        // Daily rows of the longest horizon still fit a schedule
+        assertEquals(365_000, new AccrualSchedule(1000, 1, 10, InvestmentInputs.MAX_MONTHS,
+            CompoundingFrequency.DAILY, CompoundingFrequency.DAILY).size());
+    }
+
+    @Test
+    void rejectsLongerHorizonsWithAFieldError() {
+        Validated<InvestmentInputs> inputs = InvestmentInputs.parse(NumberParser.ROOT, "1000", "1", "10", "1000000000");
+        assertEquals(List.of("Number of Months cannot be greater than " + InvestmentInputs.MAX_MONTHS + "."),
+            inputs.errors());
+    }
+
+    @Test
+    void scheduleRowsBeyondAnIntAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AccrualSchedule(1000, 1, 10, 1_000_000_000,
+            CompoundingFrequency.MONTHLY, CompoundingFrequency.DAILY));
+    }
+}
@@ -0,0 +1,109 @@
+package profitcalculation.engine;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the closed-form summary against the month-by-month loop it replaced: the same month
+ * count, and the same totals to the cent, for targets that fall exactly on a month's profit,
+ * just past it and between months, as well as for targets met in the first month and targets
+ * that are never met.
+ */
+class OneTimeInvestmentTest {
+    private static final double[] RATES = {0, 0.0001, 0.01, 0.5, 1, 2.5, 7, 33.333333};
+    private static final double[] CHARITIES = {0, 12.5, 100};
+    private static final double[] INVESTMENTS = {0, 0.01, 100, 1234.56, 50000};
+    private static final int[] BOUNDARY_MONTHS = {1, 2, 3, 12, 120, 1200, OneTimeInvestment.MAX_MONTHS};
+    private static final double MAX_TARGET = 1e8;
+    // Over thousands of months the loop's own rounding drifts by a cent on larger amounts
+    private static final double MAX_AMOUNT = 1e10;
+    private static final double CENT = 0.005;
+
+    static Stream<Arguments> targets() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (double rate : RATES) {
+            for (double charity : CHARITIES) {
+                for (double investment : INVESTMENTS) {
+                    add(arguments, investment, 0, rate, charity);
+                    add(arguments, investment, MAX_TARGET, rate, charity);
+                    double[] profits = loopProfits(investment, rate, charity);
+                    for (int month : BOUNDARY_MONTHS) {
+                        double profit = profits[month - 1];
+                        if (profit > 0 && profit <= MAX_TARGET) {
+                            add(arguments, investment, profit, rate, charity);
+                            add(arguments, investment, Math.nextUp(profit), rate, charity);
+                            add(arguments, investment, profit * 0.999, rate, charity);
+                        }
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    /** Adds the case unless its amounts are too large to compare to the cent. */
+    private static void add(List<Arguments> arguments, double investment,
+                            double targetProfit, double rate, double charity) {
+        OneTimeInvestmentResult expected = loop(investment, targetProfit, rate, charity);
+        if (expected == null || expected.finalAmount() <= MAX_AMOUNT) {
+            arguments.add(Arguments.of(investment, targetProfit, rate, charity));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void closedFormMatchesMonthlyLoop(double investment, double targetProfit, double ratePct, double charityPct) {
+        OneTimeInvestmentResult expected = loop(investment, targetProfit, ratePct, charityPct);
+        OneTimeInvestmentResult actual = OneTimeInvestment.compute(investment, targetProfit, ratePct, charityPct, false);
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertNotNull(actual);
+        assertEquals(expected.monthsRequired(), actual.monthsRequired());
+        assertEquals(expected.totalProfit(), actual.totalProfit(), CENT);
+        assertEquals(expected.totalCharity(), actual.totalCharity(), CENT);
+        assertEquals(expected.finalAmount(), actual.finalAmount(), CENT);
+    }
+
+    /** The original loop, stopped at {@link OneTimeInvestment#MAX_MONTHS} instead of running forever. */
+    private static OneTimeInvestmentResult loop(double investment, double targetProfit, double ratePct,
+                                                double charityPct) {
+        double currentInvestment = investment;
+        double totalProfit = 0;
+        double totalCharity = 0;
+        for (int month = 1; month <= OneTimeInvestment.MAX_MONTHS; month++) {
+            double monthlyProfit = currentInvestment * (ratePct / 100);
+            double charity = monthlyProfit * (charityPct / 100);
+            totalProfit += monthlyProfit;
+            totalCharity += charity;
+            currentInvestment += monthlyProfit - charity;
+            if (monthlyProfit >= targetProfit) {
+                return new OneTimeInvestmentResult(investment, targetProfit, ratePct, charityPct, month, totalProfit,
+                    totalCharity, currentInvestment, null);
+            }
+        }
+        return null;
+    }
+
+    /** Each month's profit in the original loop, to aim targets at. */
+    private static double[] loopProfits(double investment, double ratePct, double charityPct) {
+        double[] profits = new double[OneTimeInvestment.MAX_MONTHS];
+        double currentInvestment = investment;
+        for (int month = 1; month <= OneTimeInvestment.MAX_MONTHS; month++) {
+            double monthlyProfit = currentInvestment * (ratePct / 100);
+            profits[month - 1] = monthlyProfit;
+            currentInvestment += monthlyProfit - monthlyProfit * (charityPct / 100);
+        }
+        return profits;
+    }
+}
@@ -0,0 +1,75 @@
+package profitcalculation.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.InvestmentCalculator;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.Schedule;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedScheduleReadsBackExactly() throws IOException {
+        InvestmentCalculatorResult result = InvestmentCalculator.compute(10000, 1.25, 10, 120);
+        try (ScenarioStore store = ScenarioStore.open(directory)) {
+            store.save("First", parameters(), ScenarioSummary.of(parameters(), result), result.schedule());
+        }
+        try (ScenarioStore store = ScenarioStore.open(directory)) {
+            SavedScenario saved = store.get(0);
+            assertEquals("First", saved.name());
+            assertSameSchedule(result.schedule(), store.load(saved));
+        }
+    }
+
+    @Test
+    void interruptedSaveLeavesAStoreThatReopens() throws IOException {
+        InvestmentCalculatorResult result = InvestmentCalculator.compute(10000, 1.25, 10, 12);
+        ScenarioStore store = ScenarioStore.open(directory);
+        store.save("Kept", parameters(), ScenarioSummary.of(parameters(), result), result.schedule());
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(ClosedByInterruptException.class,
+                () -> store.save("Lost", parameters(), ScenarioSummary.of(parameters(), result), result.schedule()));
+        } finally {
+            Thread.interrupted();
+        }
+        assertFalse(store.isOpen());
+        assertThrows(IllegalStateException.class, store::list);
+        store.close();
+
+        try (ScenarioStore reopened = ScenarioStore.open(directory)) {
+            assertTrue(reopened.isOpen());
+            assertEquals(1, reopened.size());
+            assertSameSchedule(result.schedule(), reopened.load(reopened.get(0)));
+        }
+    }
+
+    private static ScenarioParameters parameters() {
+        return ScenarioParameters.investment(new InvestmentInputs(10000, 1.25, 10, 120), CompoundingFrequency.MONTHLY,
+            CompoundingFrequency.MONTHLY, null);
+    }
+
+    private static void assertSameSchedule(Schedule expected, Schedule actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.getMonth(row), actual.getMonth(row));
+            for (int column = 1; column <= expected.getValueColumnCount(); column++) {
+                assertEquals(expected.getValue(row, column), actual.getValue(row, column));
+            }
+        }
+    }
+}
@@ -1,68 +0,0 @@
-package profitcalculation.model;
-
-import javax.swing.table.DefaultTableModel;
-import java.text.DecimalFormat;
-
-public class GoalPlannerModel {
-    private double totalInvestment = 0;
-    private double finalInvestmentValue = 0;
-    private double lastMonthProfit = 0;
-    private int monthsRequired = 0;
-    private final DefaultTableModel tableModel = new DefaultTableModel(
-            new String[]{"Month", "Total Invested", "Investment Value", "Monthly Profit", "Charity"}, 0);
-
-    public boolean calculate(double targetProfit, double monthlyInvest, double ratePct, double charityPct) {
-        tableModel.setRowCount(0);
-        totalInvestment = 0;
-        finalInvestmentValue = 0;
-        lastMonthProfit = 0;
-        monthsRequired = 0;
-        
-        double rate = ratePct / 100.0;
-        double charityRate = charityPct / 100.0;
-        double currentValue = 0;
-        
-        while (true) {
-            monthsRequired++;
-            currentValue += monthlyInvest;
-            double profit = currentValue * rate;
-            double charity = profit * charityRate;
-            double profitAfterCharity = profit - charity;
-            
-            tableModel.addRow(new Object[]{
-                monthsRequired,
-                f(monthsRequired * monthlyInvest),
-                f(currentValue),
-                f(profit),
-                f(charity)
-            });
-            
-            if (profit >= targetProfit) {
-                finalInvestmentValue = currentValue;
-                lastMonthProfit = profit;
-                break;
-            }
-            
-            currentValue += profitAfterCharity;
-        }
-        
-        totalInvestment = monthsRequired * monthlyInvest;
-        return true;
-    }
-
-    public DefaultTableModel getTableModel() { return tableModel; }
-    public int getMonthsRequired() { return monthsRequired; }
-    public double getTotalInvestment() { return totalInvestment; }
-    public double getFinalInvestmentValue() { return finalInvestmentValue; }
-    public double getLastMonthProfit() { return lastMonthProfit; }
-
-    public void clear() {
-        tableModel.setRowCount(0);
-        monthsRequired = 0;
-        totalInvestment = 0;
-        finalInvestmentValue = 0;
-        lastMonthProfit = 0;
-    }
-
-    private static String f(double n) { return new DecimalFormat("0.00").format(n); }
-}
\ No newline at end of file
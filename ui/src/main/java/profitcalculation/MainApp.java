@@ -0,0 +1,123 @@
+package profitcalculation;
+
+import com.formdev.flatlaf.FlatLightLaf;
+import profitcalculation.batch.BatchRunner;
+import profitcalculation.controller.InvestmentCalculatorController;
+import profitcalculation.controller.GoalPlannerController;
+import profitcalculation.controller.OneTimeInvestmentController;
+import profitcalculation.model.InvestmentCalculatorModel;
+import profitcalculation.model.GoalPlannerModel;
+import profitcalculation.model.OneTimeInvestmentModel;
+import profitcalculation.service.CalculatorService;
+import profitcalculation.util.ConfigRegistry;
+import profitcalculation.view.InvestmentCalculatorView;
+import profitcalculation.view.GoalPlannerView;
+import profitcalculation.view.LazyTabbedPane;
+import profitcalculation.view.OneTimeInvestmentView;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.Arrays;
+
+public class MainApp {
+    /**
+     * When true, the app prints how long after JVM start its window became visible and exits.
+     * Without a display it exits once the tabs are built instead, which is how the CDS archive is trained.
+     */
+    public static final String STARTUP_PROBE_PROPERTY = "investment.startup.probe";
+    /** When true, every tab is built before the window opens, as the startup benchmark's baseline. */
+    public static final String EAGER_TABS_PROPERTY = "investment.tabs.eager";
+
+    public static void main(String[] args) {
+        // "--batch" runs a scenario file without opening a window
+        if (args.length > 0 && args[0].equals("--batch")) {
+            System.exit(BatchRunner.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        // "--serve" runs the JSON service instead of the window
+        if (args.length > 0 && args[0].equals("--serve")) {
+            try {
+                CalculatorService.main(Arrays.copyOfRange(args, 1, args.length));
+            } catch (IOException e) {
+                System.err.println("Could not start the service: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        try {
+            UIManager.setLookAndFeel(new FlatLightLaf());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        ConfigRegistry.startWatchingIfEnabled();
+
+        SwingUtilities.invokeLater(() -> {
+            // Only the first tab is built before the window opens; the others on first selection
+            LazyTabbedPane tabbedPane = new LazyTabbedPane();
+            tabbedPane.addLazyTab("Investment Calculator", icon("calculator.png"),
+                    "Calculate investment returns and charity amounts", () -> {
+                        InvestmentCalculatorModel model = new InvestmentCalculatorModel();
+                        InvestmentCalculatorView view = new InvestmentCalculatorView(model.getTableModel());
+                        new InvestmentCalculatorController(model, view);
+                        return view;
+                    });
+            tabbedPane.addLazyTab("Goal Planner", icon("goal.png"),
+                    "Plan your investment goals and track progress", () -> {
+                        GoalPlannerModel model = new GoalPlannerModel();
+                        GoalPlannerView view = new GoalPlannerView(model.getTableModel());
+                        new GoalPlannerController(model, view);
+                        return view;
+                    });
+            tabbedPane.addLazyTab("One-Time Investment", icon("onetime.png"),
+                    "Calculate returns for one-time investments", () -> {
+                        OneTimeInvestmentView view = new OneTimeInvestmentView();
+                        new OneTimeInvestmentController(new OneTimeInvestmentModel(), view);
+                        return view;
+                    });
+            if (Boolean.getBoolean(EAGER_TABS_PROPERTY)) {
+                tabbedPane.buildAll();
+            }
+
+            boolean probe = Boolean.getBoolean(STARTUP_PROBE_PROPERTY);
+            if (probe && GraphicsEnvironment.isHeadless()) {
+                // A training run without a display still loads everything up to the window
+                reportStartup("Tabs built");
+                return;
+            }
+
+            JFrame frame = new JFrame("Investment Management System");
+            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            frame.setSize(1200, 800);
+            frame.setLocationRelativeTo(null);
+            frame.add(tabbedPane);
+            if (probe) {
+                frame.addWindowListener(new WindowAdapter() {
+                    @Override
+                    public void windowOpened(WindowEvent e) {
+                        reportStartup("First frame visible");
+                    }
+                });
+            }
+            frame.setVisible(true);
+        });
+    }
+
+    /** A tab icon from the classpath, or null when the image is not packaged. */
+    private static Icon icon(String name) {
+        URL url = MainApp.class.getResource("/icons/" + name);
+        return url == null ? null : new ImageIcon(url);
+    }
+
+    /** Prints the milliseconds since the JVM started, for the startup benchmark, and exits. */
+    private static void reportStartup(String what) {
+        long now = System.currentTimeMillis();
+        // Read only after the clock, as the management classes take a while to load
+        long started = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println(what + " after " + (now - started) + " ms");
+        System.exit(0);
+    }
+}
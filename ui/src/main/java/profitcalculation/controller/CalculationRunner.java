@@ -0,0 +1,116 @@
+package profitcalculation.controller;
+
+import javax.swing.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs a tab's calculations on a background worker and publishes each result to the Event
+ * Dispatch Thread in a single step. Starting a calculation cancels the one still running, and
+ * the progress bar and Cancel button are shown only while a calculation is in flight. Several
+ * runners may share one progress bar; it stays visible until all of them are idle. A runner made
+ * not to interrupt its work only drops a cancelled result, so file I/O it started still finishes.
+ */
+class CalculationRunner {
+    private static final String BUSY_COUNT = "CalculationRunner.busyCount";
+
+    private final JProgressBar progressBar;
+    private final JButton cancelButton;
+    private final boolean interrupt;
+    private SwingWorker<?, ?> current;
+
+    CalculationRunner(JProgressBar progressBar, JButton cancelButton) {
+        this(progressBar, cancelButton, true);
+    }
+
+    /**
+     * @param interrupt whether cancelling interrupts the worker; pass false for work on a
+     *     {@link java.nio.channels.FileChannel}, which an interrupt closes
+     */
+    CalculationRunner(JProgressBar progressBar, JButton cancelButton, boolean interrupt) {
+        this.progressBar = progressBar;
+        this.cancelButton = cancelButton;
+        this.interrupt = interrupt;
+        cancelButton.addActionListener(e -> cancel());
+        if (progressBar.getClientProperty(BUSY_COUNT) == null) {
+            progressBar.putClientProperty(BUSY_COUNT, 0);
+            showBusy(false);
+        }
+    }
+
+    /** Background work that reports how far along it is as a percentage. */
+    interface ProgressTask<T> {
+        T call(IntConsumer progress) throws Exception;
+    }
+
+    <T> void run(Callable<T> task, Consumer<T> onResult, Consumer<Exception> onError) {
+        run(progress -> task.call(), onResult, onError);
+    }
+
+    /**
+     * Like {@link #run(Callable, Consumer, Consumer)}, but the progress bar switches from
+     * indeterminate to a percentage as soon as the task reports one.
+     */
+    <T> void run(ProgressTask<T> task, Consumer<T> onResult, Consumer<Exception> onError) {
+        cancel();
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return task.call(this::setProgress);
+            }
+
+            @Override
+            protected void done() {
+                if (current == this) {
+                    current = null;
+                    setBusy(false);
+                }
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    onResult.accept(get());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    if (!(cause instanceof CancellationException)) {
+                        onError.accept(cause instanceof Exception ? (Exception) cause : ex);
+                    }
+                }
+            }
+        };
+        worker.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName()) && current == worker) {
+                progressBar.setIndeterminate(false);
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+        current = worker;
+        setBusy(true);
+        worker.execute();
+    }
+
+    void cancel() {
+        if (current != null) {
+            current.cancel(interrupt);
+            current = null;
+            setBusy(false);
+        }
+    }
+
+    private void setBusy(boolean busy) {
+        int count = (Integer) progressBar.getClientProperty(BUSY_COUNT) + (busy ? 1 : -1);
+        progressBar.putClientProperty(BUSY_COUNT, count);
+        showBusy(count > 0);
+    }
+
+    private void showBusy(boolean busy) {
+        progressBar.setIndeterminate(busy);
+        progressBar.setVisible(busy);
+        cancelButton.setVisible(busy);
+    }
+}
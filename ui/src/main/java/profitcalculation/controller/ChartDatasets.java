@@ -0,0 +1,106 @@
+package profitcalculation.controller;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import profitcalculation.engine.Schedule;
+
+/**
+ * Builds the chart datasets of each tab from the numeric columns of its schedule. Short
+ * horizons get one category per month; longer ones an XY dataset over the month number, which
+ * stays responsive with thousands of months.
+ */
+public final class ChartDatasets {
+    /** Longest horizon still drawn with one category per month. */
+    public static final int CATEGORY_LIMIT = 120;
+
+    private static final String[] INVESTMENT_KEYS = {"Investment Value", "Net Profit", "Charity"};
+    private static final String[] GOAL_KEYS = {"Total Investment", "Investment Value", "Monthly Profit", "Charity"};
+    private static final String[] ONE_TIME_KEYS = {"Investment Value", "Monthly Profit", "Charity"};
+
+    private ChartDatasets() {
+    }
+
+    /** Investment Calculator: stacked base investment, net profit and charity per month. */
+    public static DefaultCategoryDataset investmentBreakdown(Schedule schedule) {
+        return categories(schedule, INVESTMENT_KEYS, investmentSeries(schedule));
+    }
+
+    public static SeriesXYDataset investmentBreakdownXY(Schedule schedule) {
+        return new SeriesXYDataset(INVESTMENT_KEYS, months(schedule), investmentSeries(schedule));
+    }
+
+    /**
+     * Goal Planner: one dataset per axis, in order total investment, investment value,
+     * monthly profit and charity.
+     */
+    public static DefaultCategoryDataset[] goalProgress(Schedule schedule) {
+        DefaultCategoryDataset[] datasets = new DefaultCategoryDataset[GOAL_KEYS.length];
+        for (int i = 0; i < datasets.length; i++) {
+            datasets[i] = categories(schedule, new String[] {GOAL_KEYS[i]}, new double[][] {column(schedule, i + 1)});
+        }
+        return datasets;
+    }
+
+    public static SeriesXYDataset[] goalProgressXY(Schedule schedule) {
+        double[] months = months(schedule);
+        SeriesXYDataset[] datasets = new SeriesXYDataset[GOAL_KEYS.length];
+        for (int i = 0; i < datasets.length; i++) {
+            datasets[i] = new SeriesXYDataset(new String[] {GOAL_KEYS[i]}, months, new double[][] {column(schedule, i + 1)});
+        }
+        return datasets;
+    }
+
+    /** One-Time Investment: investment value, monthly profit and charity per month. */
+    public static DefaultCategoryDataset oneTimeGrowth(Schedule schedule) {
+        return categories(schedule, ONE_TIME_KEYS, oneTimeSeries(schedule));
+    }
+
+    public static SeriesXYDataset oneTimeGrowthXY(Schedule schedule) {
+        return new SeriesXYDataset(ONE_TIME_KEYS, months(schedule), oneTimeSeries(schedule));
+    }
+
+    private static double[][] investmentSeries(Schedule schedule) {
+        int rows = schedule.size();
+        double[] base = new double[rows];
+        double[] netProfit = new double[rows];
+        double[] charity = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            double profit = schedule.getValue(i, 1);
+            charity[i] = schedule.getValue(i, 2);
+            // The base investment is the investment value minus this month's profit
+            base[i] = schedule.getValue(i, 3) - profit;
+            netProfit[i] = profit - charity[i];
+        }
+        return new double[][] {base, netProfit, charity};
+    }
+
+    private static double[][] oneTimeSeries(Schedule schedule) {
+        return new double[][] {column(schedule, 1), column(schedule, 2), column(schedule, 3)};
+    }
+
+    private static double[] months(Schedule schedule) {
+        double[] months = new double[schedule.size()];
+        for (int i = 0; i < months.length; i++) {
+            months[i] = schedule.getMonth(i);
+        }
+        return months;
+    }
+
+    private static double[] column(Schedule schedule, int column) {
+        double[] values = new double[schedule.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = schedule.getValue(i, column);
+        }
+        return values;
+    }
+
+    private static DefaultCategoryDataset categories(Schedule schedule, String[] keys, double[][] series) {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < schedule.size(); i++) {
+            String month = Integer.toString(schedule.getMonth(i));
+            for (int s = 0; s < keys.length; s++) {
+                dataset.addValue(series[s][i], keys[s], month);
+            }
+        }
+        return dataset;
+    }
+}
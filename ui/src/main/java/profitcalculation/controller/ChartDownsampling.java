@@ -0,0 +1,65 @@
+package profitcalculation.controller;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.data.Range;
+
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Keeps the {@link SeriesXYDataset}s of an XY chart downsampled to one bucket per horizontal
+ * pixel of the visible month range, so drawing cost follows the plot width rather than the
+ * horizon. Zooming or resizing recomputes the buckets from the full-resolution data.
+ */
+final class ChartDownsampling {
+    private ChartDownsampling() {
+    }
+
+    static void install(ChartPanel chartPanel) {
+        XYPlot plot = chartPanel.getChart().getXYPlot();
+        ValueAxis domainAxis = plot.getDomainAxis();
+        Runnable update = () -> {
+            Range visible = domainAxis.getRange();
+            int buckets = plotWidth(chartPanel);
+            for (int i = 0; i < plot.getDatasetCount(); i++) {
+                if (plot.getDataset(i) instanceof SeriesXYDataset) {
+                    ((SeriesXYDataset) plot.getDataset(i)).showRange(visible.getLowerBound(), visible.getUpperBound(), buckets);
+                }
+            }
+        };
+
+        // Renderers otherwise derive the auto range from the exposed items, which after a zoom
+        // would only cover the zoomed view; the dataset reports the full bounds itself.
+        for (int i = 0; i < plot.getRendererCount(); i++) {
+            if (plot.getRenderer(i) instanceof AbstractRenderer) {
+                ((AbstractRenderer) plot.getRenderer(i)).setDataBoundsIncludesVisibleSeriesOnly(false);
+            }
+        }
+
+        domainAxis.addChangeListener(event -> update.run());
+        chartPanel.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                update.run();
+            }
+        });
+        chartPanel.setMouseWheelEnabled(true);
+        update.run();
+    }
+
+    private static int plotWidth(ChartPanel chartPanel) {
+        // The data area is only known once the chart has been drawn
+        Rectangle2D dataArea = chartPanel.getScreenDataArea();
+        if (dataArea != null && dataArea.getWidth() > 0) {
+            return (int) Math.ceil(dataArea.getWidth());
+        }
+        if (chartPanel.getWidth() > 0) {
+            return chartPanel.getWidth();
+        }
+        return chartPanel.getPreferredSize().width;
+    }
+}
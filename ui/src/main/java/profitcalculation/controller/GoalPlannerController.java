@@ -0,0 +1,642 @@
+package profitcalculation.controller;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.model.GoalPlannerModel;
+import profitcalculation.engine.GoalPlanner;
+import profitcalculation.engine.GoalPlannerInputs;
+import profitcalculation.engine.GoalPlannerResult;
+import profitcalculation.engine.MonteCarloSimulation;
+import profitcalculation.engine.NumberParser;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.Validated;
+import profitcalculation.export.ScheduleCsvExporter;
+import profitcalculation.view.GoalPlannerView;
+import profitcalculation.util.ValidationUtil;
+import profitcalculation.util.PropertyLoader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.text.DecimalFormat;
+import java.io.File;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+
+
+public class GoalPlannerController {
+    private final GoalPlannerModel model;
+    private final GoalPlannerView view;
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    private final NumberParser parser = NumberParser.forDefaultLocale();
+    private final CalculationRunner runner;
+    private final CalculationRunner csvExportRunner;
+    private final CalculationRunner pdfExportRunner;
+    private final CalculationRunner monteCarloRunner;
+    private final LiveRecalculation liveRecalculation;
+
+    public GoalPlannerController(GoalPlannerModel model, GoalPlannerView view) {
+        this.model = model;
+        this.view = view;
+        this.runner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.csvExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.pdfExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.monteCarloRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.liveRecalculation = new LiveRecalculation(() -> calculate(false),
+                view.goalProfitField, view.monthlyInvestmentField, view.monthlyRateField, view.charityField);
+
+        // Add action listeners
+        view.calculateBtn.addActionListener(new CalculateListener());
+        view.clearBtn.addActionListener(new ClearListener());
+        view.exportCSVBtn.addActionListener(new ExportCSVListener());
+        view.exportPDFBtn.addActionListener(new ExportPDFListener());
+        view.chartBtn.addActionListener(new ChartListener());
+        view.explainChartBtn.addActionListener(new ExplainChartListener());
+        view.monteCarloBtn.addActionListener(new MonteCarloListener());
+        view.helpBtn.addActionListener(new HelpListener());
+        view.fillDefaultsBtn.addActionListener(new FillDefaultsListener());
+    }
+
+    private class CalculateListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            calculate(true);
+        }
+    }
+
+    /**
+     * Validates and parses the inputs, then shows the result for them. Results of recent inputs
+     * come from the cache; anything else is calculated off the EDT. Live recalculation passes
+     * interactive = false so half-typed values are skipped without dialogs.
+     */
+    private void calculate(boolean interactive) {
+        GoalPlannerInputs inputs = readInputs(interactive);
+        if (inputs == null) {
+            return;
+        }
+        double goalProfit = inputs.targetProfit(), monthlyInvestment = inputs.monthlyInvestment(),
+            monthlyRate = inputs.profitPct(), charityRate = inputs.charityPct();
+
+        CalculationKey<GoalPlannerResult> key =
+            CalculationKey.goalPlanner(goalProfit, monthlyInvestment, monthlyRate, charityRate, true);
+        GoalPlannerResult cached = CalculationCache.getIfPresent(key);
+        if (cached != null) {
+            runner.cancel();
+            showResult(cached, interactive);
+            return;
+        }
+
+        // Calculate results off the EDT and update the view once they are ready
+        runner.run(() -> CalculationCache.calculate(key),
+            result -> showResult(result, interactive),
+            ex -> {
+                if (interactive) {
+                    showCalculationError(ex);
+                }
+            });
+    }
+
+    /**
+     * Parses the input fields once, or returns null after reporting every rejected field (only
+     * when interactive).
+     */
+    private GoalPlannerInputs readInputs(boolean interactive) {
+        Validated<GoalPlannerInputs> inputs = GoalPlannerInputs.parse(parser, view.goalProfitField.getText(),
+            view.monthlyInvestmentField.getText(), view.monthlyRateField.getText(), view.charityField.getText());
+        if (!inputs.isValid() && interactive) {
+            ValidationUtil.showValidationError(inputs.message());
+        }
+        return inputs.value();
+    }
+
+    /** Shows a result; a null result means the goal is unreachable, which is only reported on Calculate. */
+    private void showResult(GoalPlannerResult result, boolean interactive) {
+        if (result == null) {
+            model.clear();
+            if (interactive) {
+                JOptionPane.showMessageDialog(view,
+                    PropertyLoader.getProperty("goal_planner.properties", "goal.unreachable.message", "The target monthly profit can never be reached with these values.\nIncrease the monthly investment or the profit rate."),
+                    PropertyLoader.getProperty("goal_planner.properties", "goal.unreachable.title", "Goal Not Reachable"),
+                    JOptionPane.WARNING_MESSAGE);
+            }
+            return;
+        }
+        model.apply(result);
+        view.monthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+            PropertyLoader.getProperty("goal_planner.properties", "months.required.label", "Months Required: ") + 
+            model.getMonthsRequired());
+        view.totalInvestmentLabel.setText("<html><span style='font-size:16px'>💵</span> " + 
+            PropertyLoader.getProperty("goal_planner.properties", "total.investment.label", "Total Investment: SAR ") + 
+            decimalFormat.format(model.getTotalInvestment()));
+        view.investmentValueLabel.setText("<html><span style='font-size:16px'>📈</span> " + 
+            PropertyLoader.getProperty("goal_planner.properties", "final.investment.value.label", "Final Investment Value: SAR ") + 
+            decimalFormat.format(model.getFinalInvestmentValue()));
+        view.lastProfitLabel.setText("<html><span style='font-size:16px'>💎</span> " + 
+            PropertyLoader.getProperty("goal_planner.properties", "last.month.profit.label", "Last Month's Profit: SAR ") + 
+            decimalFormat.format(model.getLastMonthProfit()));
+    }
+
+    private void showCalculationError(Exception ex) {
+        JOptionPane.showMessageDialog(view, 
+            PropertyLoader.format("goal_planner.properties", "calculation.error.message", "An error occurred during calculation: {0}", ex.getMessage()),
+            PropertyLoader.getProperty("goal_planner.properties", "calculation.error.title", "Calculation Error"),
+            JOptionPane.ERROR_MESSAGE);
+    }
+
+    private class ClearListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+        runner.cancel();
+        view.goalProfitField.setText("");
+        view.monthlyInvestmentField.setText("");
+        view.monthlyRateField.setText("");
+            view.charityField.setText("");
+            liveRecalculation.stop();
+            view.monthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+                PropertyLoader.getProperty("goal_planner.properties", "months.required.label", "Months Required: ") + "0");
+            view.totalInvestmentLabel.setText("<html><span style='font-size:16px'>💵</span> " + 
+                PropertyLoader.getProperty("goal_planner.properties", "total.investment.label", "Total Investment: SAR ") + "0.00");
+            view.investmentValueLabel.setText("<html><span style='font-size:16px'>📈</span> " + 
+                PropertyLoader.getProperty("goal_planner.properties", "final.investment.value.label", "Final Investment Value: SAR ") + "0.00");
+            view.lastProfitLabel.setText("<html><span style='font-size:16px'>💎</span> " + 
+                PropertyLoader.getProperty("goal_planner.properties", "last.month.profit.label", "Last Month's Profit: SAR ") + "0.00");
+            model.clear();
+        }
+    }
+
+    private class ExportCSVListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.getProperty("goal_planner.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle(PropertyLoader.getProperty("goal_planner.properties", "export.csv.dialog.title", "Export to CSV"));
+            FileNameExtensionFilter csvFilter = new FileNameExtensionFilter("CSV Files (*.csv)", "csv");
+            FileNameExtensionFilter gzipFilter = new FileNameExtensionFilter("Compressed CSV Files (*.csv.gz)", "gz");
+            fileChooser.addChoosableFileFilter(csvFilter);
+            fileChooser.addChoosableFileFilter(gzipFilter);
+            fileChooser.setFileFilter(csvFilter);
+            fileChooser.setSelectedFile(new File("goal_planner_results.csv"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = ScheduleExport.csvFile(fileChooser.getSelectedFile(), fileChooser.getFileFilter() == gzipFilter);
+
+                // The report is captured here on the EDT and the rows are streamed from the
+                // immutable schedule on a worker thread
+                ScheduleCsvExporter exporter = new ScheduleCsvExporter()
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.title", "Goal Planner Results"))
+                    .line(PropertyLoader.format("goal_planner.properties", "csv.generated.on", "Generated on: {0}", java.time.LocalDateTime.now()))
+                    .line()
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.input.parameters", "Input Parameters:"))
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.target.monthly.profit", "Target Monthly Profit"),
+                        view.goalProfitField.getText())
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.monthly.investment", "Monthly Investment"),
+                        view.monthlyInvestmentField.getText())
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.monthly.profit.rate", "Monthly Profit Rate %"),
+                        view.monthlyRateField.getText())
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.charity.rate", "Charity Rate %"),
+                        view.charityField.getText())
+                    .line()
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.summary", "Summary:"))
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.months.required", "Months Required"),
+                        String.valueOf(model.getMonthsRequired()))
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.total.investment", "Total Investment"),
+                        decimalFormat.format(model.getTotalInvestment()))
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.final.investment.value", "Final Investment Value"),
+                        decimalFormat.format(model.getFinalInvestmentValue()))
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.last.month.profit", "Last Month's Profit"),
+                        decimalFormat.format(model.getLastMonthProfit()))
+                    .line()
+                    .line(PropertyLoader.getProperty("goal_planner.properties", "csv.monthly.breakdown", "Monthly Breakdown:"));
+                String[] header = {
+                    PropertyLoader.getProperty("goal_planner.properties", "csv.month", "Month"),
+                    PropertyLoader.getProperty("goal_planner.properties", "csv.monthly.investment", "Monthly Investment"),
+                    PropertyLoader.getProperty("goal_planner.properties", "csv.investment.value", "Investment Value"),
+                    PropertyLoader.getProperty("goal_planner.properties", "csv.profit", "Profit"),
+                    PropertyLoader.getProperty("goal_planner.properties", "csv.charity", "Charity")
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                csvExportRunner.run(() -> {
+                    exporter.export(target.toPath(), header, schedule);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("goal_planner.properties", "export.success.message", "CSV file exported successfully to:\n{0}", exported.getAbsolutePath()),
+                    PropertyLoader.getProperty("goal_planner.properties", "export.success.title", "Export Successful"),
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("goal_planner.properties", "export.error.message", "Error exporting CSV: {0}", ex.getMessage()),
+                    PropertyLoader.getProperty("goal_planner.properties", "export.error.title", "Export Error"),
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class ExportPDFListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, "Please calculate results first.");
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle("Export to PDF");
+            fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files (*.pdf)", "pdf"));
+            fileChooser.setSelectedFile(new File("goal_planner_results.pdf"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = fileChooser.getSelectedFile();
+                if (!file.getName().toLowerCase().endsWith(".pdf")) {
+                    file = new File(file.getAbsolutePath() + ".pdf");
+                }
+
+                // The report is captured here on the EDT and the rows are written from the
+                // immutable schedule on a worker thread, one page at a time
+                SchedulePdfExporter exporter = new SchedulePdfExporter()
+                    .title("Goal Planner Results")
+                    .subtitle("Generated on: " + java.time.LocalDateTime.now())
+                    .section("Input Parameters:")
+                    .text("Target Monthly Profit: " + view.goalProfitField.getText())
+                    .text("Monthly Investment: " + view.monthlyInvestmentField.getText())
+                    .text("Monthly Profit Rate %: " + view.monthlyRateField.getText())
+                    .text("Charity Rate %: " + view.charityField.getText())
+                    .spacing()
+                    .section("Summary:")
+                    .text("Months Required: " + model.getMonthsRequired())
+                    .text("Total Investment: SAR " + decimalFormat.format(model.getTotalInvestment()))
+                    .text("Final Investment Value: SAR " + decimalFormat.format(model.getFinalInvestmentValue()))
+                    .text("Last Month's Profit: SAR " + decimalFormat.format(model.getLastMonthProfit()))
+                    .spacing()
+                    .section("Monthly Breakdown:");
+                String[] header = {
+                    "Month",
+                    "Total Investment",
+                    "Investment Value",
+                    "Monthly Profit",
+                    "Charity"
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                pdfExportRunner.run(progress -> {
+                    exporter.export(target.toPath(), header, schedule, progress);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    "PDF file exported successfully to:\n" + exported.getAbsolutePath(),
+                    "Export Successful",
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    "Error exporting PDF: " + ex.getMessage(),
+                    "Export Error",
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class ChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, "Please calculate results first.");
+                return;
+            }
+
+            Schedule schedule = model.getTableModel().getSchedule();
+            JFreeChart chart = schedule.size() > ChartDatasets.CATEGORY_LIMIT
+                ? createXYChart(schedule) : createCategoryChart(schedule);
+
+        ChartPanel chartPanel = new ChartPanel(chart);
+            if (schedule.size() > ChartDatasets.CATEGORY_LIMIT) {
+                ChartDownsampling.install(chartPanel);
+            }
+            
+            // Create button panel for chart
+            JPanel chartButtonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 5));
+            chartButtonPanel.setBackground(Color.WHITE);
+            
+            JButton explainButton = new JButton("📖 Explain This Chart");
+            explainButton.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+            explainButton.setBackground(new Color(41, 128, 185));
+            explainButton.setForeground(Color.WHITE);
+            explainButton.setFocusPainted(false);
+            explainButton.addActionListener(evt -> showChartExplanationDialog());
+            
+            chartButtonPanel.add(explainButton);
+            
+            // Create main panel to hold chart and button
+            JPanel mainPanel = new JPanel(new BorderLayout());
+            mainPanel.add(chartPanel, BorderLayout.CENTER);
+            mainPanel.add(chartButtonPanel, BorderLayout.SOUTH);
+            
+            JFrame chartFrame = new JFrame("Goal Planner - Investment Progress");
+        chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+            chartFrame.setContentPane(mainPanel);
+            chartFrame.setSize(1000, 650);
+        chartFrame.setLocationRelativeTo(null);
+        chartFrame.setVisible(true);
+    }
+    }
+
+    /** One category per month; used up to {@link ChartDatasets#CATEGORY_LIMIT} months. */
+    private JFreeChart createCategoryChart(Schedule schedule) {
+        DefaultCategoryDataset[] datasets = ChartDatasets.goalProgress(schedule);
+        DefaultCategoryDataset totalInvestmentDataset = datasets[0];
+        DefaultCategoryDataset investmentValueDataset = datasets[1];
+        DefaultCategoryDataset monthlyProfitDataset = datasets[2];
+        DefaultCategoryDataset charityDataset = datasets[3];
+
+        JFreeChart chart = ChartFactory.createLineChart(
+            "Goal Planner - Investment Progress",
+            "Month",
+            "Amount (SAR)",
+            totalInvestmentDataset,
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        CategoryPlot plot = chart.getCategoryPlot();
+        
+        // Configure total investment line
+        LineAndShapeRenderer totalInvestmentRenderer = new LineAndShapeRenderer();
+        totalInvestmentRenderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        totalInvestmentRenderer.setSeriesPaint(0, new Color(155, 89, 182)); // Purple
+        totalInvestmentRenderer.setSeriesStroke(0, new BasicStroke(3.0f));
+        totalInvestmentRenderer.setSeriesShapesVisible(0, true);
+        plot.setRenderer(0, totalInvestmentRenderer);
+
+        // Add investment value axis
+        NumberAxis investmentValueAxis = new NumberAxis("Investment Value (SAR)");
+        investmentValueAxis.setAutoRangeIncludesZero(false);
+        plot.setRangeAxis(1, investmentValueAxis);
+        plot.setDataset(1, investmentValueDataset);
+        plot.mapDatasetToRangeAxis(1, 1);
+
+        // Configure investment value line
+        LineAndShapeRenderer investmentValueRenderer = new LineAndShapeRenderer();
+        investmentValueRenderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        investmentValueRenderer.setSeriesPaint(0, new Color(52, 152, 219)); // Blue
+        investmentValueRenderer.setSeriesStroke(0, new BasicStroke(3.0f));
+        investmentValueRenderer.setSeriesShapesVisible(0, true);
+        plot.setRenderer(1, investmentValueRenderer);
+
+        // Add monthly profit axis with adjusted scale
+        NumberAxis monthlyProfitAxis = new NumberAxis("Monthly Profit (SAR)");
+        monthlyProfitAxis.setAutoRangeIncludesZero(false);
+        double maxProfit = 0;
+        for (int i = 0; i < monthlyProfitDataset.getRowCount(); i++) {
+            for (int j = 0; j < monthlyProfitDataset.getColumnCount(); j++) {
+                Number value = monthlyProfitDataset.getValue(i, j);
+                if (value != null && value.doubleValue() > maxProfit) {
+                    maxProfit = value.doubleValue();
+                }
+            }
+        }
+        monthlyProfitAxis.setRange(0, maxProfit * 1.2); // Add 20% padding
+        plot.setRangeAxis(2, monthlyProfitAxis);
+        plot.setDataset(2, monthlyProfitDataset);
+        plot.mapDatasetToRangeAxis(2, 2);
+
+        // Configure monthly profit line
+        LineAndShapeRenderer monthlyProfitRenderer = new LineAndShapeRenderer();
+        monthlyProfitRenderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        monthlyProfitRenderer.setSeriesPaint(0, new Color(46, 204, 113)); // Green
+        monthlyProfitRenderer.setSeriesStroke(0, new BasicStroke(3.0f));
+        monthlyProfitRenderer.setSeriesShapesVisible(0, true);
+        plot.setRenderer(2, monthlyProfitRenderer);
+
+        // Add charity axis
+        NumberAxis charityAxis = new NumberAxis("Charity (SAR)");
+        charityAxis.setAutoRangeIncludesZero(false);
+        double maxCharity = 0;
+        for (int i = 0; i < charityDataset.getRowCount(); i++) {
+            for (int j = 0; j < charityDataset.getColumnCount(); j++) {
+                Number value = charityDataset.getValue(i, j);
+                if (value != null && value.doubleValue() > maxCharity) {
+                    maxCharity = value.doubleValue();
+                }
+            }
+        }
+        charityAxis.setRange(0, maxCharity * 1.2);
+        plot.setRangeAxis(3, charityAxis);
+        plot.setDataset(3, charityDataset);
+        plot.mapDatasetToRangeAxis(3, 3);
+
+        // Configure charity line
+        LineAndShapeRenderer charityRenderer = new LineAndShapeRenderer();
+        charityRenderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        charityRenderer.setSeriesPaint(0, new Color(231, 76, 60)); // Red
+        charityRenderer.setSeriesStroke(0, new BasicStroke(3.0f));
+        charityRenderer.setSeriesShapesVisible(0, true);
+        plot.setRenderer(3, charityRenderer);
+
+        // Configure axis formatting
+        NumberAxis rangeAxis = (NumberAxis) plot.getRangeAxis();
+        rangeAxis.setNumberFormatOverride(new java.text.DecimalFormat("#,##0"));
+        
+        // Set background
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setRangeGridlinePaint(new Color(200, 200, 200));
+        plot.setDomainGridlinePaint(new Color(200, 200, 200));
+
+        return chart;
+    }
+    /** Same four axes as the category chart, drawn as lines over the month number. */
+    private JFreeChart createXYChart(Schedule schedule) {
+        SeriesXYDataset[] datasets = ChartDatasets.goalProgressXY(schedule);
+
+        JFreeChart chart = ChartFactory.createXYLineChart(
+            "Goal Planner - Investment Progress",
+            "Month",
+            "Amount (SAR)",
+            datasets[0],
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        XYPlot plot = chart.getXYPlot();
+        NumberAxis domainAxis = (NumberAxis) plot.getDomainAxis();
+        domainAxis.setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+
+        NumberAxis investmentValueAxis = new NumberAxis("Investment Value (SAR)");
+        investmentValueAxis.setAutoRangeIncludesZero(false);
+        plot.setRangeAxis(1, investmentValueAxis);
+
+        // Profit and charity axes start at zero with 20% headroom, like the category chart
+        NumberAxis monthlyProfitAxis = new NumberAxis("Monthly Profit (SAR)");
+        monthlyProfitAxis.setRange(0, Math.max(maxValue(datasets[2]), 1) * 1.2);
+        plot.setRangeAxis(2, monthlyProfitAxis);
+
+        NumberAxis charityAxis = new NumberAxis("Charity (SAR)");
+        charityAxis.setRange(0, Math.max(maxValue(datasets[3]), 1) * 1.2);
+        plot.setRangeAxis(3, charityAxis);
+
+        Color[] colors = {
+            new Color(155, 89, 182), // Purple
+            new Color(52, 152, 219), // Blue
+            new Color(46, 204, 113), // Green
+            new Color(231, 76, 60)   // Red
+        };
+        for (int i = 0; i < datasets.length; i++) {
+            plot.setDataset(i, datasets[i]);
+            plot.mapDatasetToRangeAxis(i, i);
+            XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true, false);
+            renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+            renderer.setDrawSeriesLineAsPath(true);
+            renderer.setSeriesPaint(0, colors[i]);
+            renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            plot.setRenderer(i, renderer);
+        }
+
+        NumberAxis rangeAxis = (NumberAxis) plot.getRangeAxis();
+        rangeAxis.setNumberFormatOverride(new java.text.DecimalFormat("#,##0"));
+
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setRangeGridlinePaint(new Color(200, 200, 200));
+        plot.setDomainGridlinePaint(new Color(200, 200, 200));
+
+        return chart;
+    }
+
+    private static double maxValue(SeriesXYDataset dataset) {
+        double max = 0;
+        for (int i = 0; i < dataset.getItemCount(); i++) {
+            max = Math.max(max, dataset.getYValue(0, i));
+        }
+        return max;
+    }
+
+    private void showChartExplanationDialog() {
+        JDialog explainDialog = new JDialog((Frame) null, "Chart Explanation", false);
+        explainDialog.setLayout(new BorderLayout(15, 15));
+        explainDialog.getContentPane().setBackground(new Color(236, 240, 241));
+
+        JTextArea explanation = new JTextArea();
+        explanation.setEditable(false);
+        explanation.setBackground(Color.WHITE);
+        explanation.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+        explanation.setLineWrap(true);
+        explanation.setWrapStyleWord(true);
+        explanation.setText(
+            "\uD83D\uDCCA Goal Planner Chart Explanation\n\n" +
+            "This line chart shows your journey towards your profit goal:\n\n" +
+            "\uD83D\uDFE3 PURPLE Line - Total Investment:\n" +
+            "   • Shows how much you've invested over time\n" +
+            "   • Grows steadily with your monthly investments\n" +
+            "   • Represents your actual cash contributions\n\n" +
+            "\uD83D\uDD35 BLUE Line - Investment Value:\n" +
+            "   • Shows the total value of your investment\n" +
+            "   • Includes both your investments and profits\n" +
+            "   • Grows faster than total investment due to profits\n\n" +
+            "\uD83D\uDFE2 GREEN Line - Monthly Profit:\n" +
+            "   • Shows the profit earned each month\n" +
+            "   • Based on your current investment value\n" +
+            "   • The line you need to reach your target\n\n" +
+            "\uD83D\uDD34 RED Line - Charity:\n" +
+            "   • Shows the amount donated to charity each month (as a percentage of profit)\n" +
+            "   • Follows the same time scale as profit\n" +
+            "   • Lets you see your charitable impact over time\n\n" +
+            "\uD83D\uDCC8 What to Look For:\n" +
+            "• When the green line reaches your target profit\n" +
+            "• How the blue line grows faster than purple\n" +
+            "• The point where you achieve your goal\n" +
+            "• The red line shows your monthly charity contribution\n\n" +
+            "\uD83D\uDCA1 Tips:\n" +
+            "• Hover over lines to see exact values\n" +
+            "• The green line shows your progress towards the goal\n" +
+            "• Compare lines to understand your growth pattern\n" +
+            "• The red line helps you track your charity impact"
+        );
+
+        JScrollPane scrollPane = new JScrollPane(explanation);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        explainDialog.add(scrollPane, BorderLayout.CENTER);
+
+        JButton closeButton = new JButton("Got it! 👍");
+        closeButton.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+        closeButton.setBackground(new Color(41, 128, 185));
+        closeButton.setForeground(Color.WHITE);
+        closeButton.setFocusPainted(false);
+        closeButton.addActionListener(evt -> explainDialog.dispose());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setBackground(new Color(236, 240, 241));
+        buttonPanel.add(closeButton);
+        explainDialog.add(buttonPanel, BorderLayout.SOUTH);
+
+        explainDialog.setSize(500, 500);
+        explainDialog.setLocationRelativeTo(null);
+        explainDialog.setVisible(true);
+    }
+
+    /** Probability of reaching the goal by each month, with random monthly returns. */
+    private class MonteCarloListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            GoalPlannerInputs inputs = readInputs(true);
+            if (inputs == null) {
+                return;
+            }
+            double goalProfit = inputs.targetProfit(), monthlyInvestment = inputs.monthlyInvestment(),
+                monthlyRate = inputs.profitPct(), charityRate = inputs.charityPct();
+
+            monteCarloRunner.run(() -> {
+                    int planned = GoalPlanner.solveMonthsRequired(goalProfit, monthlyInvestment, monthlyRate / 100, charityRate / 100);
+                    return MonteCarloSimulation.goalPlanner(goalProfit, monthlyInvestment, charityRate,
+                        MonteCarloCharts.goalHorizon(planned), MonteCarloCharts.returns(monthlyRate),
+                        MonteCarloCharts.paths(), MonteCarloCharts.seed());
+                },
+                result -> {
+                    String title = PropertyLoader.getProperty("goal_planner.properties", "monte.carlo.title", "Goal Planner - Chance of Reaching the Goal");
+                    MonteCarloCharts.show(title, MonteCarloCharts.probabilityChart(title, result), result);
+                },
+                GoalPlannerController.this::showCalculationError);
+        }
+    }
+
+    private class ExplainChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.showExplainChartDialog();
+        }
+    }
+
+    private class HelpListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.showHelpDialog();
+        }
+    }
+
+    private class FillDefaultsListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.goalProfitField.setText(PropertyLoader.getProperty("goal_planner.properties", "target.monthly.profit", "6000"));
+            view.monthlyInvestmentField.setText(PropertyLoader.getProperty("goal_planner.properties", "monthly.investment", "2000"));
+            view.monthlyRateField.setText(PropertyLoader.getProperty("goal_planner.properties", "monthly.profit.rate", "2"));
+            view.charityField.setText(PropertyLoader.getProperty("goal_planner.properties", "charity.rate", "10"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,721 @@
+package profitcalculation.controller;
+
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.model.InvestmentCalculatorModel;
+import profitcalculation.engine.CalculatorType;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.InvestmentCalculatorResult;
+import profitcalculation.engine.InvestmentInputs;
+import profitcalculation.engine.NumberParser;
+import profitcalculation.engine.ParameterSweep;
+import profitcalculation.engine.SweepAxis;
+import profitcalculation.engine.SweepResult;
+import profitcalculation.engine.MonteCarloSimulation;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.Validated;
+import profitcalculation.export.ScheduleCsvExporter;
+import profitcalculation.store.SavedScenario;
+import profitcalculation.store.ScenarioParameters;
+import profitcalculation.store.ScenarioSummary;
+import profitcalculation.view.InvestmentCalculatorView;
+import profitcalculation.util.ValidationUtil;
+import profitcalculation.util.PropertyLoader;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.io.File;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+
+
+import org.jfree.chart.*;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.*;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer2;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+import java.awt.*;
+
+public class InvestmentCalculatorController {
+    private final InvestmentCalculatorModel model;
+    private final InvestmentCalculatorView view;
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    // Writes a saved input back as it would be typed, without grouping
+    private final DecimalFormat fieldFormat = new DecimalFormat("0.##########");
+    private final NumberParser parser = NumberParser.forDefaultLocale();
+    private final CalculationRunner runner;
+    private final CalculationRunner csvExportRunner;
+    private final CalculationRunner pdfExportRunner;
+    private final CalculationRunner monteCarloRunner;
+    private final CalculationRunner sweepRunner;
+    private final CalculationRunner saveRunner;
+    private final CalculationRunner openRunner;
+    private final CalculationRunner chartRunner;
+    private final LiveRecalculation liveRecalculation;
+    /** What the shown result was calculated from, or null when nothing is shown. */
+    private ScenarioParameters shownParameters;
+
+    public InvestmentCalculatorController(InvestmentCalculatorModel model, InvestmentCalculatorView view) {
+        this.model = model;
+        this.view = view;
+        this.runner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.csvExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.pdfExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.monteCarloRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.sweepRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.saveRunner = new CalculationRunner(view.progressBar, view.cancelBtn, false);
+        this.openRunner = new CalculationRunner(view.progressBar, view.cancelBtn, false);
+        this.chartRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.liveRecalculation = new LiveRecalculation(() -> calculate(false),
+                view.investmentField, view.profitField, view.charityField, view.monthsField);
+        liveRecalculation.watch(view.compoundingBox, view.reportingBox);
+
+        // Add action listeners
+        view.calcBtn.addActionListener(new CalculateListener());
+        view.clearBtn.addActionListener(new ClearListener());
+        view.exportCSVBtn.addActionListener(new ExportCSVListener());
+        view.exportPDFBtn.addActionListener(new ExportPDFListener());
+        view.saveScenarioBtn.addActionListener(new SaveScenarioListener());
+        view.openScenarioBtn.addActionListener(new OpenScenarioListener());
+        view.chartBtn.addActionListener(new ChartListener());
+        view.explainChartBtn.addActionListener(new ExplainChartListener());
+        view.monteCarloBtn.addActionListener(new MonteCarloListener());
+        view.sensitivityBtn.addActionListener(new SensitivityListener());
+        view.helpBtn.addActionListener(new HelpListener());
+        view.fillDefaultsBtn.addActionListener(new FillDefaultsListener());
+    }
+
+    private class CalculateListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            calculate(true);
+        }
+    }
+
+    /**
+     * Validates and parses the inputs, then shows the result for them. Results of recent inputs
+     * come from the cache; anything else is calculated off the EDT. Live recalculation passes
+     * interactive = false so half-typed values are skipped without error dialogs.
+     */
+    private void calculate(boolean interactive) {
+        InvestmentInputs inputs = readInputs(interactive);
+        if (inputs == null) {
+            return;
+        }
+        double investment = inputs.investment(), profitRate = inputs.profitPct(), charityRate = inputs.charityPct();
+        int months = inputs.months();
+        CompoundingFrequency compounding = (CompoundingFrequency) view.compoundingBox.getSelectedItem();
+        CompoundingFrequency reporting = (CompoundingFrequency) view.reportingBox.getSelectedItem();
+        ScenarioParameters parameters = ScenarioParameters.investment(inputs, compounding, reporting, null);
+
+        CalculationKey<InvestmentCalculatorResult> key =
+            CalculationKey.investment(investment, profitRate, charityRate, months, compounding, reporting);
+        InvestmentCalculatorResult cached = CalculationCache.getIfPresent(key);
+        if (cached != null) {
+            runner.cancel();
+            showResult(cached, parameters);
+            return;
+        }
+
+        // Calculate results off the EDT and update the view once they are ready
+        runner.run(() -> CalculationCache.calculate(key),
+            result -> showResult(result, parameters),
+            ex -> {
+                if (interactive) {
+                    showCalculationError(ex);
+                }
+            });
+    }
+
+    /**
+     * Parses the input fields once, or returns null after reporting every rejected field (only
+     * when interactive).
+     */
+    private InvestmentInputs readInputs(boolean interactive) {
+        Validated<InvestmentInputs> inputs = InvestmentInputs.parse(parser, view.investmentField.getText(),
+            view.profitField.getText(), view.charityField.getText(), view.monthsField.getText());
+        if (!inputs.isValid() && interactive) {
+            ValidationUtil.showValidationError(inputs.message());
+        }
+        return inputs.value();
+    }
+
+    private void showResult(InvestmentCalculatorResult result, ScenarioParameters parameters) {
+        shownParameters = parameters;
+        int months = parameters.months();
+        model.apply(result, parameters.reporting());
+        model.getTableModel().setColumnName(0, periodLabel("table.month"));
+        view.totalProfitLabel.setText("<html><span style='font-size:16px'>💰</span> " + 
+            PropertyLoader.getProperty("investment_calculator.properties", "total.profit.label", "Total Profit: SAR ") + 
+            decimalFormat.format(model.getTotalProfit()));
+        view.totalCharityLabel.setText("<html><span style='font-size:16px'>❤️</span> " + 
+            PropertyLoader.getProperty("investment_calculator.properties", "total.charity.label", "Total Charity: SAR ") + 
+            decimalFormat.format(model.getTotalCharity()));
+        view.finalAmountLabel.setText("<html><span style='font-size:16px'>🏦</span> " + 
+            PropertyLoader.getProperty("investment_calculator.properties", "final.amount.label", "Final Amount: SAR ") + 
+            decimalFormat.format(model.getFinalAmount()));
+        view.totalMonthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+            PropertyLoader.getProperty("investment_calculator.properties", "months.required.label", "Months Required: ") + 
+            months);
+    }
+
+    /**
+     * Heading of the breakdown's period column: the given month key while rows are months,
+     * otherwise the name of the reporting period.
+     */
+    private String periodLabel(String monthKey) {
+        CompoundingFrequency reporting = model.getReporting();
+        if (reporting == CompoundingFrequency.MONTHLY) {
+            return PropertyLoader.getProperty("investment_calculator.properties", monthKey, "Month");
+        }
+        String defaultLabel = switch (reporting) {
+            case DAILY -> "Day";
+            case WEEKLY -> "Week";
+            case QUARTERLY -> "Quarter";
+            default -> "Year";
+        };
+        return PropertyLoader.getProperty("investment_calculator.properties",
+            "period." + reporting.name().toLowerCase(Locale.ROOT), defaultLabel);
+    }
+
+    private void showCalculationError(Exception ex) {
+        JOptionPane.showMessageDialog(view, 
+            PropertyLoader.format("investment_calculator.properties", "calculation.error.message", "An error occurred during calculation: {0}", ex.getMessage()),
+            PropertyLoader.getProperty("investment_calculator.properties", "calculation.error.title", "Calculation Error"),
+            JOptionPane.ERROR_MESSAGE);
+    }
+
+    private class ClearListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+        runner.cancel();
+        view.investmentField.setText("");
+        view.profitField.setText("");
+        view.charityField.setText("");
+        view.monthsField.setText("");
+        liveRecalculation.stop();
+            view.totalProfitLabel.setText("<html><span style='font-size:16px'>💰</span> " + 
+                PropertyLoader.getProperty("investment_calculator.properties", "total.profit.label", "Total Profit: SAR ") + "0.00");
+            view.totalCharityLabel.setText("<html><span style='font-size:16px'>❤️</span> " + 
+                PropertyLoader.getProperty("investment_calculator.properties", "total.charity.label", "Total Charity: SAR ") + "0.00");
+            view.finalAmountLabel.setText("<html><span style='font-size:16px'>🏦</span> " + 
+                PropertyLoader.getProperty("investment_calculator.properties", "final.amount.label", "Final Amount: SAR ") + "0.00");
+            view.totalMonthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+                PropertyLoader.getProperty("investment_calculator.properties", "months.required.label", "Months Required: ") + "0");
+            model.clear();
+            shownParameters = null;
+        }
+    }
+
+    private class ExportCSVListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.getProperty("investment_calculator.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle(PropertyLoader.getProperty("investment_calculator.properties", "export.csv.dialog.title", "Export to CSV"));
+            FileNameExtensionFilter csvFilter = new FileNameExtensionFilter("CSV Files (*.csv)", "csv");
+            FileNameExtensionFilter gzipFilter = new FileNameExtensionFilter("Compressed CSV Files (*.csv.gz)", "gz");
+            fileChooser.addChoosableFileFilter(csvFilter);
+            fileChooser.addChoosableFileFilter(gzipFilter);
+            fileChooser.setFileFilter(csvFilter);
+            fileChooser.setSelectedFile(new File("investment_calculator_results.csv"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = ScheduleExport.csvFile(fileChooser.getSelectedFile(), fileChooser.getFileFilter() == gzipFilter);
+
+                // The report is captured here on the EDT and the rows are streamed from the
+                // immutable schedule on a worker thread
+                ScheduleCsvExporter exporter = new ScheduleCsvExporter()
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.title", "Investment Calculator Results"))
+                    .line(PropertyLoader.format("investment_calculator.properties", "csv.generated.on", "Generated on: {0}", java.time.LocalDateTime.now()))
+                    .line()
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.input.parameters", "Input Parameters:"))
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.investment.amount", "Investment Amount"),
+                        view.investmentField.getText())
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.monthly.profit", "Monthly Profit %"),
+                        view.profitField.getText())
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.charity", "Charity %"),
+                        view.charityField.getText())
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.number.of.months", "Number of Months"),
+                        view.monthsField.getText())
+                    .line()
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.summary", "Summary:"))
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.total.profit", "Total Profit"),
+                        decimalFormat.format(model.getTotalProfit()))
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.total.charity", "Total Charity"),
+                        decimalFormat.format(model.getTotalCharity()))
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.final.amount", "Final Amount"),
+                        decimalFormat.format(model.getFinalAmount()))
+                    .line()
+                    .line(PropertyLoader.getProperty("investment_calculator.properties", "csv.monthly.breakdown", "Monthly Breakdown:"));
+                String[] header = {
+                    periodLabel("csv.month"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "csv.profit", "Profit"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "csv.charity", "Charity"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "csv.investment.value", "Investment Value")
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                csvExportRunner.run(() -> {
+                    exporter.export(target.toPath(), header, schedule);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("investment_calculator.properties", "export.success.message", "CSV file exported successfully to:\n{0}", exported.getAbsolutePath()),
+                    PropertyLoader.getProperty("investment_calculator.properties", "export.success.title", "Export Successful"),
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("investment_calculator.properties", "export.error.message", "Error exporting CSV: {0}", ex.getMessage()),
+                    PropertyLoader.getProperty("investment_calculator.properties", "export.error.title", "Export Error"),
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class SaveScenarioListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (shownParameters == null || model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view,
+                    PropertyLoader.getProperty("investment_calculator.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+            ScenarioParameters parameters = shownParameters;
+            Object name = JOptionPane.showInputDialog(view,
+                PropertyLoader.getProperty("investment_calculator.properties", "save.scenario.prompt", "Name this scenario:"),
+                PropertyLoader.getProperty("investment_calculator.properties", "save.scenario.dialog.title", "Save Scenario"),
+                JOptionPane.QUESTION_MESSAGE, null, null,
+                PropertyLoader.format("investment_calculator.properties", "save.scenario.default.name", "{0} at {1}% for {2} months",
+                    fieldFormat.format(parameters.investment()), fieldFormat.format(parameters.profitPct()),
+                    Integer.toString(parameters.months())));
+            if (name == null) {
+                return;
+            }
+
+            // The result is captured here on the EDT and written to the store on a worker thread
+            InvestmentCalculatorResult result = new InvestmentCalculatorResult(model.getTotalProfit(),
+                model.getTotalCharity(), model.getFinalAmount(), model.getTableModel().getSchedule());
+            saveRunner.run(() -> SavedScenarios.store().save(name.toString(), parameters,
+                    ScenarioSummary.of(parameters, result), result.schedule()),
+                saved -> JOptionPane.showMessageDialog(view,
+                    PropertyLoader.format("investment_calculator.properties", "save.scenario.success.message", "Scenario saved as \"{0}\".", saved.name()),
+                    PropertyLoader.getProperty("investment_calculator.properties", "save.scenario.dialog.title", "Save Scenario"),
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> showScenarioError("save.scenario.error.message", "Error saving scenario: {0}", ex));
+        }
+    }
+
+    /**
+     * Lists the saved Investment Calculator scenarios, newest first, from the store's index, and
+     * shows the chosen one with its schedule read back from the store rather than recalculated.
+     */
+    private class OpenScenarioListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            List<SavedScenario> saved;
+            try {
+                saved = SavedScenarios.store().list(CalculatorType.INVESTMENT);
+            } catch (IOException ex) {
+                showScenarioError("open.scenario.error.message", "Error opening saved scenarios: {0}", ex);
+                return;
+            }
+            if (saved.isEmpty()) {
+                JOptionPane.showMessageDialog(view,
+                    PropertyLoader.getProperty("investment_calculator.properties", "open.scenario.none", "No Investment Calculator scenarios have been saved yet."));
+                return;
+            }
+            List<SavedScenario> newestFirst = new ArrayList<>(saved);
+            Collections.reverse(newestFirst);
+            String[] labels = newestFirst.stream().map(SavedScenarios::label).toArray(String[]::new);
+            Object choice = JOptionPane.showInputDialog(view,
+                PropertyLoader.getProperty("investment_calculator.properties", "open.scenario.prompt", "Choose a saved scenario:"),
+                PropertyLoader.getProperty("investment_calculator.properties", "open.scenario.dialog.title", "Open Scenario"),
+                JOptionPane.PLAIN_MESSAGE, null, labels, labels[0]);
+            if (choice == null) {
+                return;
+            }
+            // The dialog returns the chosen label itself, so two alike labels still tell apart
+            int chosen = 0;
+            while (labels[chosen] != choice) {
+                chosen++;
+            }
+            SavedScenario scenario = newestFirst.get(chosen);
+            openRunner.run(() -> SavedScenarios.store().load(scenario),
+                schedule -> showSaved(scenario, schedule),
+                ex -> showScenarioError("open.scenario.error.message", "Error opening saved scenarios: {0}", ex));
+        }
+    }
+
+    /** Fills the inputs from a saved scenario and shows its saved result without recalculating. */
+    private void showSaved(SavedScenario scenario, Schedule schedule) {
+        ScenarioParameters parameters = scenario.parameters();
+        view.investmentField.setText(fieldFormat.format(parameters.investment()));
+        view.profitField.setText(fieldFormat.format(parameters.profitPct()));
+        view.charityField.setText(fieldFormat.format(parameters.charityPct()));
+        view.monthsField.setText(Integer.toString(parameters.months()));
+        view.compoundingBox.setSelectedItem(parameters.compounding());
+        view.reportingBox.setSelectedItem(parameters.reporting());
+        // The inputs now match the saved result, so the recalculation they queued is not needed
+        liveRecalculation.stop();
+        showResult(scenario.investmentResult(schedule), parameters);
+    }
+
+    private void showScenarioError(String key, String defaultPattern, Exception ex) {
+        JOptionPane.showMessageDialog(view,
+            PropertyLoader.format("investment_calculator.properties", key, defaultPattern, ex.getMessage()),
+            PropertyLoader.getProperty("investment_calculator.properties", "scenario.error.title", "Saved Scenarios Error"),
+            JOptionPane.ERROR_MESSAGE);
+    }
+
+    private class ExportPDFListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.getProperty("investment_calculator.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle(PropertyLoader.getProperty("investment_calculator.properties", "export.pdf.dialog.title", "Export to PDF"));
+            fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files (*.pdf)", "pdf"));
+            fileChooser.setSelectedFile(new File("investment_calculator_results.pdf"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = fileChooser.getSelectedFile();
+                if (!file.getName().toLowerCase().endsWith(".pdf")) {
+                    file = new File(file.getAbsolutePath() + ".pdf");
+                }
+
+                // The report is captured here on the EDT and the rows are written from the
+                // immutable schedule on a worker thread, one page at a time
+                SchedulePdfExporter exporter = new SchedulePdfExporter()
+                    .title(PropertyLoader.getProperty("investment_calculator.properties", "pdf.title", "Investment Calculator Results"))
+                    .subtitle(PropertyLoader.format("investment_calculator.properties", "pdf.generated.on", "Generated on: {0}", java.time.LocalDateTime.now()))
+                    .section(PropertyLoader.getProperty("investment_calculator.properties", "pdf.input.parameters", "Input Parameters:"))
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.investment.amount", "Investment Amount") + ": " + view.investmentField.getText())
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.monthly.profit", "Monthly Profit %") + ": " + view.profitField.getText())
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.charity", "Charity %") + ": " + view.charityField.getText())
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.number.of.months", "Number of Months") + ": " + view.monthsField.getText())
+                    .spacing()
+                    .section(PropertyLoader.getProperty("investment_calculator.properties", "pdf.summary", "Summary:"))
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.total.profit", "Total Profit") + ": SAR " + decimalFormat.format(model.getTotalProfit()))
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.total.charity", "Total Charity") + ": SAR " + decimalFormat.format(model.getTotalCharity()))
+                    .text(PropertyLoader.getProperty("investment_calculator.properties", "csv.final.amount", "Final Amount") + ": SAR " + decimalFormat.format(model.getFinalAmount()))
+                    .spacing()
+                    .section(PropertyLoader.getProperty("investment_calculator.properties", "pdf.monthly.breakdown", "Monthly Breakdown:"));
+                String[] header = {
+                    periodLabel("pdf.month"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "pdf.profit", "Profit"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "pdf.charity", "Charity"),
+                    PropertyLoader.getProperty("investment_calculator.properties", "pdf.investment.value", "Investment Value")
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                pdfExportRunner.run(progress -> {
+                    exporter.export(target.toPath(), header, schedule, progress);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("investment_calculator.properties", "export.success.message", "CSV file exported successfully to:\n{0}", exported.getAbsolutePath()),
+                    PropertyLoader.getProperty("investment_calculator.properties", "export.success.title", "Export Successful"),
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("investment_calculator.properties", "export.error.message", "Error exporting CSV: {0}", ex.getMessage()),
+                    PropertyLoader.getProperty("investment_calculator.properties", "export.error.title", "Export Error"),
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class ChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.getProperty("investment_calculator.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+
+            // Reading every row of a long accrual schedule is slow, so the dataset is built off the EDT
+            Schedule schedule = model.getTableModel().getSchedule();
+            if (schedule.size() > ChartDatasets.CATEGORY_LIMIT) {
+                chartRunner.run(() -> ChartDatasets.investmentBreakdownXY(schedule),
+                    dataset -> showChart(createXYChart(dataset), true),
+                    InvestmentCalculatorController.this::showCalculationError);
+            } else {
+                chartRunner.run(() -> ChartDatasets.investmentBreakdown(schedule),
+                    dataset -> showChart(createCategoryChart(dataset), false),
+                    InvestmentCalculatorController.this::showCalculationError);
+            }
+        }
+    }
+
+    private void showChart(JFreeChart chart, boolean downsampled) {
+        ChartPanel chartPanel = new ChartPanel(chart);
+        if (downsampled) {
+            ChartDownsampling.install(chartPanel);
+        }
+
+        // Create button panel for chart
+        JPanel chartButtonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 5));
+        chartButtonPanel.setBackground(Color.WHITE);
+
+        JButton explainButton = new JButton(PropertyLoader.getProperty("investment_calculator.properties", "chart.explanation.button", "📖 Explain This Chart"));
+        explainButton.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+        explainButton.setBackground(new Color(41, 128, 185));
+        explainButton.setForeground(Color.WHITE);
+        explainButton.setFocusPainted(false);
+        explainButton.addActionListener(evt -> showChartExplanationDialog());
+
+        chartButtonPanel.add(explainButton);
+
+        // Create main panel to hold chart and button
+        JPanel mainPanel = new JPanel(new BorderLayout());
+        mainPanel.add(chartPanel, BorderLayout.CENTER);
+        mainPanel.add(chartButtonPanel, BorderLayout.SOUTH);
+
+        JFrame chartFrame = new JFrame(PropertyLoader.getProperty("investment_calculator.properties", "chart.dialog.title", "Investment Calculator Chart") + " - Monthly Analysis");
+        chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        chartFrame.setContentPane(mainPanel);
+        chartFrame.setSize(1000, 650);
+        chartFrame.setLocationRelativeTo(null);
+        chartFrame.setVisible(true);
+    }
+
+    /** One category per month; used up to {@link ChartDatasets#CATEGORY_LIMIT} months. */
+    private JFreeChart createCategoryChart(DefaultCategoryDataset dataset) {
+        JFreeChart chart = ChartFactory.createStackedBarChart(
+            PropertyLoader.getProperty("investment_calculator.properties", "chart.dialog.title", "Investment Calculator Chart") + " - Monthly Breakdown",
+            periodLabel("chart.month"),
+            "Amount (SAR)",
+            dataset,
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        CategoryPlot plot = chart.getCategoryPlot();
+        
+        // Configure renderer for better visualization
+        org.jfree.chart.renderer.category.StackedBarRenderer renderer = 
+            new org.jfree.chart.renderer.category.StackedBarRenderer();
+        
+        // Set colors for each series
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));  // Blue for Investment Value
+        renderer.setSeriesPaint(1, new Color(46, 204, 113));  // Green for Net Profit
+        renderer.setSeriesPaint(2, new Color(231, 76, 60));   // Red for Charity
+        
+        // Set minimum bar width and height for better clickability
+        renderer.setMinimumBarLength(0.2); // Minimum 20% of available space
+        renderer.setBarPainter(new org.jfree.chart.renderer.category.StandardBarPainter());
+        
+        // Add tooltips
+        renderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        
+        plot.setRenderer(renderer);
+        
+        // Configure axis
+        NumberAxis rangeAxis = (NumberAxis) plot.getRangeAxis();
+        rangeAxis.setNumberFormatOverride(new java.text.DecimalFormat("#,##0"));
+        
+        // Set background
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setRangeGridlinePaint(new Color(200, 200, 200));
+        plot.setDomainGridlinePaint(new Color(200, 200, 200));
+
+        return chart;
+    }
+    /** Stacked areas over the month number, for horizons too long for one bar per month. */
+    private JFreeChart createXYChart(SeriesXYDataset dataset) {
+        JFreeChart chart = ChartFactory.createStackedXYAreaChart(
+            PropertyLoader.getProperty("investment_calculator.properties", "chart.dialog.title", "Investment Calculator Chart") + " - Monthly Breakdown",
+            periodLabel("chart.month"),
+            "Amount (SAR)",
+            dataset,
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        XYPlot plot = chart.getXYPlot();
+
+        StackedXYAreaRenderer2 renderer = new StackedXYAreaRenderer2(new StandardXYToolTipGenerator(), null);
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));  // Blue for Investment Value
+        renderer.setSeriesPaint(1, new Color(46, 204, 113));  // Green for Net Profit
+        renderer.setSeriesPaint(2, new Color(231, 76, 60));   // Red for Charity
+        plot.setRenderer(renderer);
+
+        NumberAxis domainAxis = (NumberAxis) plot.getDomainAxis();
+        domainAxis.setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+        NumberAxis rangeAxis = (NumberAxis) plot.getRangeAxis();
+        rangeAxis.setNumberFormatOverride(new java.text.DecimalFormat("#,##0"));
+
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setRangeGridlinePaint(new Color(200, 200, 200));
+        plot.setDomainGridlinePaint(new Color(200, 200, 200));
+
+        return chart;
+    }
+
+    private void showChartExplanationDialog() {
+        JDialog explainDialog = new JDialog((Frame) null, 
+            PropertyLoader.getProperty("investment_calculator.properties", "chart.explanation.dialog.title", "Chart Explanation"), false);
+        explainDialog.setLayout(new BorderLayout(15, 15));
+        explainDialog.getContentPane().setBackground(new Color(236, 240, 241));
+
+        JTextArea explanation = new JTextArea();
+        explanation.setEditable(false);
+        explanation.setBackground(Color.WHITE);
+        explanation.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+        explanation.setLineWrap(true);
+        explanation.setWrapStyleWord(true);
+        explanation.setText(PropertyLoader.getProperty("investment_calculator.properties", "chart.explanation.content", 
+            "📊 Investment Calculator Chart Explanation\n\nThis stacked bar chart shows the monthly breakdown of your investment."));
+
+        JScrollPane scrollPane = new JScrollPane(explanation);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        explainDialog.add(scrollPane, BorderLayout.CENTER);
+
+        JButton closeButton = new JButton(PropertyLoader.getProperty("investment_calculator.properties", "chart.explanation.close.button", "Got it! 👍"));
+        closeButton.setFont(new java.awt.Font("Segoe UI", java.awt.Font.PLAIN, 14));
+        closeButton.setBackground(new Color(41, 128, 185));
+        closeButton.setForeground(Color.WHITE);
+        closeButton.setFocusPainted(false);
+        closeButton.addActionListener(evt -> explainDialog.dispose());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setBackground(new Color(236, 240, 241));
+        buttonPanel.add(closeButton);
+        explainDialog.add(buttonPanel, BorderLayout.SOUTH);
+
+        explainDialog.setSize(500, 500);
+        explainDialog.setLocationRelativeTo(null);
+        explainDialog.setVisible(true);
+    }
+
+    /**
+     * Sweeps profit % from zero to twice the entered rate, charity % from 0 to 100 and months up
+     * to the entered horizon, then shows the results as a heatmap per horizon.
+     */
+    private class SensitivityListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            InvestmentInputs inputs = readInputs(true);
+            if (inputs == null) {
+                return;
+            }
+            double investment = inputs.investment();
+            double maxProfit = inputs.profitPct() > 0 ? Math.min(inputs.profitPct() * 2, 100) : 5;
+            int months = Math.max(inputs.months(), 1);
+            SweepAxis profitAxis = new SweepAxis(0, maxProfit,
+                PropertyLoader.getIntProperty("investment_calculator.properties", "sweep.profit.steps", 200));
+            SweepAxis charityAxis = new SweepAxis(0, 100,
+                PropertyLoader.getIntProperty("investment_calculator.properties", "sweep.charity.steps", 200));
+            SweepAxis monthsAxis = new SweepAxis(1, months,
+                Math.min(months, PropertyLoader.getIntProperty("investment_calculator.properties", "sweep.month.steps", 60)));
+
+            sweepRunner.run(() -> ParameterSweep.run(investment, profitAxis, charityAxis, monthsAxis),
+                InvestmentCalculatorController.this::showSweep,
+                InvestmentCalculatorController.this::showCalculationError);
+        }
+    }
+
+    private void showSweep(SweepResult result) {
+        int lastStep = result.getMonthSteps() - 1;
+        JComboBox<SweepResult.Metric> metricBox = new JComboBox<>(SweepResult.Metric.values());
+        JSlider monthSlider = new JSlider(0, lastStep, lastStep);
+        JLabel monthLabel = new JLabel();
+        ChartPanel chartPanel = new ChartPanel(null);
+        Runnable update = () -> {
+            int step = monthSlider.getValue();
+            monthLabel.setText(PropertyLoader.format("investment_calculator.properties", "sweep.months.label", "Months: {0}", result.getMonths(step)));
+            chartPanel.setChart(SweepHeatmap.create(result, (SweepResult.Metric) metricBox.getSelectedItem(), step));
+        };
+        metricBox.addActionListener(evt -> update.run());
+        monthSlider.addChangeListener(evt -> update.run());
+        update.run();
+
+        JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 5));
+        controlPanel.setBackground(Color.WHITE);
+        controlPanel.add(metricBox);
+        controlPanel.add(monthSlider);
+        controlPanel.add(monthLabel);
+
+        JPanel mainPanel = new JPanel(new BorderLayout());
+        mainPanel.add(controlPanel, BorderLayout.NORTH);
+        mainPanel.add(chartPanel, BorderLayout.CENTER);
+
+        JFrame sweepFrame = new JFrame(PropertyLoader.getProperty("investment_calculator.properties", "sweep.dialog.title", "Investment Calculator - Sensitivity"));
+        sweepFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        sweepFrame.setContentPane(mainPanel);
+        sweepFrame.setSize(1000, 700);
+        sweepFrame.setLocationRelativeTo(null);
+        sweepFrame.setVisible(true);
+    }
+
+    /** P5/P50/P95 bands of the investment value over the entered horizon, with random monthly returns. */
+    private class MonteCarloListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            InvestmentInputs inputs = readInputs(true);
+            if (inputs == null) {
+                return;
+            }
+            double investment = inputs.investment(), profitRate = inputs.profitPct(), charityRate = inputs.charityPct();
+            int months = Math.max(inputs.months(), 1);
+
+            monteCarloRunner.run(() -> MonteCarloSimulation.investment(investment, charityRate, months,
+                    MonteCarloCharts.returns(profitRate), MonteCarloCharts.paths(), MonteCarloCharts.seed()),
+                result -> {
+                    String title = PropertyLoader.getProperty("investment_calculator.properties", "monte.carlo.title", "Investment Calculator - Monte Carlo");
+                    MonteCarloCharts.show(title, MonteCarloCharts.bandChart(title, result), result);
+                },
+                InvestmentCalculatorController.this::showCalculationError);
+        }
+    }
+
+    private class ExplainChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.showExplainChartDialog();
+        }
+    }
+
+    private class HelpListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.showHelpDialog();
+        }
+    }
+
+    private class FillDefaultsListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.investmentField.setText(PropertyLoader.getProperty("investment_calculator.properties", "investment.amount", "3800000"));
+            view.profitField.setText(PropertyLoader.getProperty("investment_calculator.properties", "monthly.profit.rate", "2"));
+            view.charityField.setText(PropertyLoader.getProperty("investment_calculator.properties", "charity.rate", "15"));
+            view.monthsField.setText(PropertyLoader.getProperty("investment_calculator.properties", "number.of.months", "48"));
+            view.compoundingBox.setSelectedItem(InvestmentCalculatorView.frequencyDefault("compounding.frequency"));
+            view.reportingBox.setSelectedItem(InvestmentCalculatorView.frequencyDefault("reporting.period"));
+        }
+    }
+}
\ No newline at end of file
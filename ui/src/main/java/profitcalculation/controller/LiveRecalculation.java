@@ -0,0 +1,44 @@
+package profitcalculation.controller;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+/**
+ * Recalculates a tab as the user types. Every edit of the watched fields restarts a short timer,
+ * and the action runs on the Event Dispatch Thread once typing pauses.
+ */
+class LiveRecalculation implements DocumentListener {
+    private static final int DEBOUNCE_MILLIS = 300;
+
+    private final Timer timer;
+
+    LiveRecalculation(Runnable action, JTextField... fields) {
+        timer = new Timer(DEBOUNCE_MILLIS, e -> action.run());
+        timer.setRepeats(false);
+        for (JTextField field : fields) {
+            field.getDocument().addDocumentListener(this);
+        }
+    }
+
+    /** Also recalculates, after the same pause, when a selection changes. */
+    void watch(JComboBox<?>... boxes) {
+        for (JComboBox<?> box : boxes) {
+            box.addActionListener(e -> timer.restart());
+        }
+    }
+
+    /** Drops a pending recalculation, e.g. after the fields were cleared. */
+    void stop() {
+        timer.stop();
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) { timer.restart(); }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) { timer.restart(); }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) { timer.restart(); }
+}
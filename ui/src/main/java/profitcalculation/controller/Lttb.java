@@ -0,0 +1,85 @@
+package profitcalculation.controller;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling. Splits a run of points into buckets and keeps,
+ * per bucket, the point forming the largest triangle with the previously kept point and the
+ * average of the next bucket, which preserves peaks, troughs and the overall shape.
+ */
+final class Lttb {
+    private Lttb() {
+    }
+
+    /**
+     * Indexes in {@code from..to} (inclusive) to draw for at most {@code threshold} buckets. With
+     * several series the selections are merged so every series keeps its own shape while all
+     * series still share the same x values.
+     */
+    static int[] select(double[] x, double[][] y, int from, int to, int threshold) {
+        int count = to - from + 1;
+        if (count <= 0) {
+            return new int[0];
+        }
+        if (threshold < 3 || count <= threshold) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = from + i;
+            }
+            return all;
+        }
+
+        boolean[] keep = new boolean[count];
+        for (double[] series : y) {
+            mark(x, series, from, count, threshold, keep);
+        }
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        int[] selected = new int[kept];
+        for (int i = 0, j = 0; i < count; i++) {
+            if (keep[i]) {
+                selected[j++] = from + i;
+            }
+        }
+        return selected;
+    }
+
+    private static void mark(double[] x, double[] y, int from, int count, int threshold, boolean[] keep) {
+        // First and last points are always kept; the rest is split into threshold - 2 buckets
+        double every = (double) (count - 2) / (threshold - 2);
+        int end = from + count;
+        int previous = from;
+        keep[0] = true;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = from + (int) (bucket * every) + 1;
+            int next = from + (int) ((bucket + 1) * every) + 1;
+            int nextEnd = Math.min(from + (int) ((bucket + 2) * every) + 1, end);
+
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = next; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            avgX /= nextEnd - next;
+            avgY /= nextEnd - next;
+
+            double px = x[previous];
+            double py = y[previous];
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < next; i++) {
+                double area = Math.abs((px - avgX) * (y[i] - py) - (px - x[i]) * (avgY - py));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            keep[chosen - from] = true;
+            previous = chosen;
+        }
+        keep[count - 1] = true;
+    }
+}
@@ -0,0 +1,145 @@
+package profitcalculation.controller;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
+import profitcalculation.engine.MonteCarloResult;
+import profitcalculation.engine.ReturnDistribution;
+import profitcalculation.util.PropertyLoader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+
+/** Settings and charts shared by the Monte Carlo buttons of all three tabs. */
+final class MonteCarloCharts {
+    private static final String CONFIG = "monte_carlo.properties";
+
+    private MonteCarloCharts() {
+    }
+
+    /** Monthly returns around the entered rate, as configured in monte_carlo.properties. */
+    static ReturnDistribution returns(double meanPct) throws IOException {
+        String distribution = PropertyLoader.getProperty(CONFIG, "distribution", "lognormal").trim();
+        double volatility = PropertyLoader.getDoubleProperty(CONFIG, "volatility", 1.5);
+        switch (distribution) {
+            case "normal":
+                return ReturnDistribution.normal(meanPct, volatility);
+            case "lognormal":
+                return ReturnDistribution.lognormal(meanPct, volatility);
+            case "bootstrap":
+                String file = PropertyLoader.getProperty(CONFIG, "bootstrap.file", "").trim();
+                if (file.isEmpty()) {
+                    throw new IllegalArgumentException("Set bootstrap.file in " + CONFIG + " to a CSV of monthly returns");
+                }
+                String column = PropertyLoader.getProperty(CONFIG, "bootstrap.column", "").trim();
+                return ReturnDistribution.bootstrap(Path.of(file), column.isEmpty() ? null : column);
+            default:
+                throw new IllegalArgumentException("Unknown distribution '" + distribution + "' in " + CONFIG);
+        }
+    }
+
+    static int paths() {
+        return PropertyLoader.getIntProperty(CONFIG, "paths", 10000);
+    }
+
+    static long seed() {
+        return Long.parseLong(PropertyLoader.getProperty(CONFIG, "seed", "42").trim());
+    }
+
+    /** Simulated horizon for a goal the fixed-rate plan reaches in {@code plannedMonths}, or -1 if never. */
+    static int goalHorizon(int plannedMonths) {
+        int maxMonths = PropertyLoader.getIntProperty(CONFIG, "max.months", 1200);
+        return plannedMonths < 0 ? maxMonths : Math.min(maxMonths, Math.max(12, plannedMonths * 2));
+    }
+
+    /** P5-P95 band of the balance with the median drawn through it. */
+    static JFreeChart bandChart(String title, MonteCarloResult result) {
+        YIntervalSeries band = new YIntervalSeries("P5 - P95");
+        YIntervalSeries median = new YIntervalSeries("Median (P50)");
+        double[] p5 = result.band(0.05);
+        double[] p50 = result.band(0.5);
+        double[] p95 = result.band(0.95);
+        band.setNotify(false);
+        median.setNotify(false);
+        for (int i = 0; i < p50.length; i++) {
+            band.add(i + 1, p50[i], p5[i], p95[i]);
+            median.add(i + 1, p50[i], p50[i], p50[i]);
+        }
+        YIntervalSeriesCollection dataset = new YIntervalSeriesCollection();
+        dataset.addSeries(band);
+        dataset.addSeries(median);
+
+        JFreeChart chart = ChartFactory.createXYLineChart(title, "Month", "Investment Value (SAR)", dataset,
+            PlotOrientation.VERTICAL, true, true, false);
+        XYPlot plot = chart.getXYPlot();
+        DeviationRenderer renderer = new DeviationRenderer(true, false);
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));
+        renderer.setSeriesFillPaint(0, new Color(52, 152, 219));
+        renderer.setSeriesPaint(1, new Color(41, 128, 185));
+        renderer.setSeriesFillPaint(1, new Color(41, 128, 185));
+        renderer.setSeriesStroke(1, new BasicStroke(2.0f));
+        renderer.setAlpha(0.3f);
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        plot.setRenderer(renderer);
+        style(plot, new DecimalFormat("#,##0"));
+        return chart;
+    }
+
+    /** Share of simulated paths that reached the goal in or before each month. */
+    static JFreeChart probabilityChart(String title, MonteCarloResult result) {
+        XYSeries probability = new XYSeries("Goal reached");
+        probability.setNotify(false);
+        for (int month = 1; month <= result.getMonths(); month++) {
+            probability.add(month, 100 * result.probabilityReachedBy(month));
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart(title, "Month", "Probability (%)",
+            new XYSeriesCollection(probability), PlotOrientation.VERTICAL, false, true, false);
+        XYPlot plot = chart.getXYPlot();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        renderer.setSeriesPaint(0, new Color(46, 204, 113));
+        renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        plot.setRenderer(renderer);
+        style(plot, new DecimalFormat("0"));
+        ((NumberAxis) plot.getRangeAxis()).setRange(0, 100);
+        return chart;
+    }
+
+    static void show(String title, JFreeChart chart, MonteCarloResult result) {
+        JLabel settings = new JLabel(PropertyLoader.format(CONFIG, "settings.label", "{0} paths, {1} returns, seed {2}",
+            result.getPaths(), PropertyLoader.getProperty(CONFIG, "distribution", "lognormal").trim(), seed()));
+        settings.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+
+        JPanel mainPanel = new JPanel(new BorderLayout());
+        mainPanel.add(new ChartPanel(chart), BorderLayout.CENTER);
+        mainPanel.add(settings, BorderLayout.SOUTH);
+
+        JFrame frame = new JFrame(title);
+        frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        frame.setContentPane(mainPanel);
+        frame.setSize(1000, 650);
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+    }
+
+    private static void style(XYPlot plot, DecimalFormat rangeFormat) {
+        ((NumberAxis) plot.getDomainAxis()).setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+        ((NumberAxis) plot.getRangeAxis()).setNumberFormatOverride(rangeFormat);
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setRangeGridlinePaint(new Color(200, 200, 200));
+        plot.setDomainGridlinePaint(new Color(200, 200, 200));
+    }
+}
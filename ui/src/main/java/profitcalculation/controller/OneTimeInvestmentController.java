@@ -0,0 +1,522 @@
+package profitcalculation.controller;
+
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.model.OneTimeInvestmentModel;
+import profitcalculation.engine.OneTimeInvestment;
+import profitcalculation.engine.OneTimeInvestmentInputs;
+import profitcalculation.engine.OneTimeInvestmentResult;
+import profitcalculation.engine.MonteCarloSimulation;
+import profitcalculation.engine.NumberParser;
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.Validated;
+import profitcalculation.export.ScheduleCsvExporter;
+import profitcalculation.view.OneTimeInvestmentView;
+import profitcalculation.util.ValidationUtil;
+import profitcalculation.util.PropertyLoader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.HierarchyEvent;
+import java.text.DecimalFormat;
+import java.io.File;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+
+
+import org.jfree.chart.*;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.*;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+public class OneTimeInvestmentController {
+    private final OneTimeInvestmentModel model;
+    private final OneTimeInvestmentView view;
+    private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+    private final NumberParser parser = NumberParser.forDefaultLocale();
+    private final CalculationRunner runner;
+    private final CalculationRunner csvExportRunner;
+    private final CalculationRunner pdfExportRunner;
+    private final CalculationRunner monteCarloRunner;
+    private final LiveRecalculation liveRecalculation;
+
+    public OneTimeInvestmentController(OneTimeInvestmentModel model, OneTimeInvestmentView view) {
+        this.model = model;
+        this.view = view;
+        this.runner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.csvExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.pdfExportRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.monteCarloRunner = new CalculationRunner(view.progressBar, view.cancelBtn);
+        this.liveRecalculation = new LiveRecalculation(() -> calculate(false),
+                view.targetProfitField, view.monthlyRateField, view.charityField, view.investmentField);
+        view.resultTable.setModel(model.getTableModel());
+        view.resultTable.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && view.resultTable.isShowing()) {
+                model.buildSchedule();
+            }
+        });
+
+        // Add action listeners
+        view.calculateBtn.addActionListener(new CalculateListener());
+        view.clearBtn.addActionListener(new ClearListener());
+        view.exportCSVBtn.addActionListener(new ExportCSVListener());
+        view.exportPDFBtn.addActionListener(new ExportPDFListener());
+        view.chartBtn.addActionListener(new ChartListener());
+        view.explainChartBtn.addActionListener(new ExplainChartListener());
+        view.monteCarloBtn.addActionListener(new MonteCarloListener());
+        view.helpBtn.addActionListener(new HelpListener());
+        view.fillDefaultsBtn.addActionListener(new FillDefaultsListener());
+    }
+
+    private class CalculateListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            calculate(true);
+        }
+    }
+
+    /**
+     * Validates and parses the inputs, then shows the result for them. Results of recent inputs
+     * come from the cache; anything else is calculated off the EDT. Live recalculation passes
+     * interactive = false so half-typed values are skipped without dialogs.
+     */
+    private void calculate(boolean interactive) {
+        OneTimeInvestmentInputs inputs = readInputs(interactive);
+        if (inputs == null) {
+            return;
+        }
+        double targetProfit = inputs.targetProfit(), monthlyRate = inputs.profitPct(), charityRate = inputs.charityPct(),
+            investment = inputs.investment();
+
+        CalculationKey<OneTimeInvestmentResult> key =
+            CalculationKey.oneTimeInvestment(investment, targetProfit, monthlyRate, charityRate, false);
+        OneTimeInvestmentResult cached = CalculationCache.getIfPresent(key);
+        if (cached != null) {
+            runner.cancel();
+            showResult(cached, interactive);
+            return;
+        }
+
+        // Calculate the summary off the EDT; the breakdown is only built while the table is on screen
+        runner.run(() -> CalculationCache.calculate(key),
+            result -> showResult(result, interactive),
+            ex -> {
+                if (interactive) {
+                    showCalculationError(ex);
+                }
+            });
+    }
+
+    /**
+     * Parses the input fields once, or returns null after reporting every rejected field (only
+     * when interactive).
+     */
+    private OneTimeInvestmentInputs readInputs(boolean interactive) {
+        Validated<OneTimeInvestmentInputs> inputs = OneTimeInvestmentInputs.parse(parser, view.investmentField.getText(),
+            view.targetProfitField.getText(), view.monthlyRateField.getText(), view.charityField.getText());
+        if (!inputs.isValid() && interactive) {
+            ValidationUtil.showValidationError(inputs.message());
+        }
+        return inputs.value();
+    }
+
+    /** Shows a result; a null result means the target is unreachable, which is only reported on Calculate. */
+    private void showResult(OneTimeInvestmentResult result, boolean interactive) {
+        if (result == null) {
+            model.clear();
+            if (interactive) {
+                JOptionPane.showMessageDialog(view,
+                    PropertyLoader.getProperty("one_time_investment.properties", "target.unreachable.message", "The target monthly profit can never be reached with these values.\nIncrease the investment amount or the profit rate."),
+                    PropertyLoader.getProperty("one_time_investment.properties", "target.unreachable.title", "Target Not Reachable"),
+                    JOptionPane.WARNING_MESSAGE);
+            }
+            return;
+        }
+        model.apply(result);
+        if (view.resultTable.isShowing()) {
+            model.buildSchedule();
+        }
+        view.monthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+            PropertyLoader.getProperty("one_time_investment.properties", "months.required.label", "Months Required: ") + 
+            model.getMonthsRequired());
+        view.totalProfitLabel.setText("<html><span style='font-size:16px'>💰</span> " + 
+            PropertyLoader.getProperty("one_time_investment.properties", "total.profit.label", "Total Profit: SAR ") + 
+            decimalFormat.format(model.getTotalProfit()));
+        view.totalCharityLabel.setText("<html><span style='font-size:16px'>❤️</span> " + 
+            PropertyLoader.getProperty("one_time_investment.properties", "total.charity.label", "Total Charity: SAR ") + 
+            decimalFormat.format(model.getTotalCharity()));
+        view.finalAmountLabel.setText("<html><span style='font-size:16px'>🏦</span> " + 
+            PropertyLoader.getProperty("one_time_investment.properties", "final.amount.label", "Final Amount: SAR ") + 
+            decimalFormat.format(model.getFinalAmount()));
+    }
+
+    private void showCalculationError(Exception ex) {
+        JOptionPane.showMessageDialog(view, 
+            PropertyLoader.format("one_time_investment.properties", "calculation.error.message", "An error occurred during calculation: {0}", ex.getMessage()),
+            PropertyLoader.getProperty("one_time_investment.properties", "calculation.error.title", "Calculation Error"),
+            JOptionPane.ERROR_MESSAGE);
+    }
+
+    private class ClearListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            runner.cancel();
+            view.targetProfitField.setText("");
+            view.monthlyRateField.setText("");
+            view.charityField.setText("");
+            view.investmentField.setText("");
+            liveRecalculation.stop();
+            view.monthsLabel.setText("<html><span style='font-size:16px'>📅</span> " + 
+                PropertyLoader.getProperty("one_time_investment.properties", "months.required.label", "Months Required: ") + "0");
+            view.totalProfitLabel.setText("<html><span style='font-size:16px'>💰</span> " + 
+                PropertyLoader.getProperty("one_time_investment.properties", "total.profit.label", "Total Profit: SAR ") + "0.00");
+            view.totalCharityLabel.setText("<html><span style='font-size:16px'>❤️</span> " + 
+                PropertyLoader.getProperty("one_time_investment.properties", "total.charity.label", "Total Charity: SAR ") + "0.00");
+            view.finalAmountLabel.setText("<html><span style='font-size:16px'>🏦</span> " + 
+                PropertyLoader.getProperty("one_time_investment.properties", "final.amount.label", "Final Amount: SAR ") + "0.00");
+            model.clear();
+        }
+    }
+
+    private class ExportCSVListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            model.buildSchedule();
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.getProperty("one_time_investment.properties", "please.calculate.first", "Please calculate results first."));
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle(PropertyLoader.getProperty("one_time_investment.properties", "export.csv.dialog.title", "Export to CSV"));
+            FileNameExtensionFilter csvFilter = new FileNameExtensionFilter("CSV Files (*.csv)", "csv");
+            FileNameExtensionFilter gzipFilter = new FileNameExtensionFilter("Compressed CSV Files (*.csv.gz)", "gz");
+            fileChooser.addChoosableFileFilter(csvFilter);
+            fileChooser.addChoosableFileFilter(gzipFilter);
+            fileChooser.setFileFilter(csvFilter);
+            fileChooser.setSelectedFile(new File("one_time_investment_results.csv"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = ScheduleExport.csvFile(fileChooser.getSelectedFile(), fileChooser.getFileFilter() == gzipFilter);
+
+                // The report is captured here on the EDT and the rows are streamed from the
+                // immutable schedule on a worker thread
+                ScheduleCsvExporter exporter = new ScheduleCsvExporter()
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.title", "One-Time Investment Results"))
+                    .line(PropertyLoader.format("one_time_investment.properties", "csv.generated.on", "Generated on: {0}", java.time.LocalDateTime.now()))
+                    .line()
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.input.parameters", "Input Parameters:"))
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.target.monthly.profit", "Target Monthly Profit"),
+                        view.targetProfitField.getText())
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.monthly.profit.rate", "Monthly Profit Rate %"),
+                        view.monthlyRateField.getText())
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.charity.rate", "Charity Rate %"),
+                        view.charityField.getText())
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.investment.amount", "Investment Amount"),
+                        view.investmentField.getText())
+                    .line()
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.summary", "Summary:"))
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.months.required", "Months Required"),
+                        String.valueOf(model.getMonthsRequired()))
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.total.profit", "Total Profit"),
+                        decimalFormat.format(model.getTotalProfit()))
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.total.charity", "Total Charity"),
+                        decimalFormat.format(model.getTotalCharity()))
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.final.amount", "Final Amount"),
+                        decimalFormat.format(model.getFinalAmount()))
+                    .line()
+                    .line(PropertyLoader.getProperty("one_time_investment.properties", "csv.monthly.breakdown", "Monthly Breakdown:"));
+                String[] header = {
+                    PropertyLoader.getProperty("one_time_investment.properties", "csv.month", "Month"),
+                    PropertyLoader.getProperty("one_time_investment.properties", "csv.investment.value", "Investment Value"),
+                    PropertyLoader.getProperty("one_time_investment.properties", "csv.profit", "Profit"),
+                    PropertyLoader.getProperty("one_time_investment.properties", "csv.charity", "Charity"),
+                    "Remaining Profit"
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                csvExportRunner.run(() -> {
+                    exporter.export(target.toPath(), header, schedule);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("one_time_investment.properties", "export.success.message", "CSV file exported successfully to:\n{0}", exported.getAbsolutePath()),
+                    PropertyLoader.getProperty("one_time_investment.properties", "export.success.title", "Export Successful"),
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    PropertyLoader.format("one_time_investment.properties", "export.error.message", "Error exporting CSV: {0}", ex.getMessage()),
+                    PropertyLoader.getProperty("one_time_investment.properties", "export.error.title", "Export Error"),
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class ExportPDFListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            model.buildSchedule();
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, "Please calculate results first.");
+                return;
+            }
+
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle("Export to PDF");
+            fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files (*.pdf)", "pdf"));
+            fileChooser.setSelectedFile(new File("one_time_investment_results.pdf"));
+
+            int result = fileChooser.showSaveDialog(view);
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = fileChooser.getSelectedFile();
+                if (!file.getName().toLowerCase().endsWith(".pdf")) {
+                    file = new File(file.getAbsolutePath() + ".pdf");
+                }
+
+                // The report is captured here on the EDT and the rows are written from the
+                // immutable schedule on a worker thread, one page at a time
+                SchedulePdfExporter exporter = new SchedulePdfExporter()
+                    .title("One-Time Investment Results")
+                    .subtitle("Generated on: " + java.time.LocalDateTime.now())
+                    .section("Input Parameters:")
+                    .text("Target Monthly Profit: " + view.targetProfitField.getText())
+                    .text("Monthly Profit Rate %: " + view.monthlyRateField.getText())
+                    .text("Charity Rate %: " + view.charityField.getText())
+                    .text("Investment Amount: " + view.investmentField.getText())
+                    .spacing()
+                    .section("Summary:")
+                    .text("Months Required: " + model.getMonthsRequired())
+                    .text("Total Profit: SAR " + decimalFormat.format(model.getTotalProfit()))
+                    .text("Total Charity: SAR " + decimalFormat.format(model.getTotalCharity()))
+                    .text("Final Amount: SAR " + decimalFormat.format(model.getFinalAmount()))
+                    .spacing()
+                    .section("Monthly Breakdown:");
+                String[] header = {
+                    "Month",
+                    "Investment Value",
+                    "Monthly Profit",
+                    "Charity",
+                    "Remaining Profit"
+                };
+                Schedule schedule = model.getTableModel().getSchedule();
+                File target = file;
+                pdfExportRunner.run(progress -> {
+                    exporter.export(target.toPath(), header, schedule, progress);
+                    return target;
+                }, exported -> JOptionPane.showMessageDialog(view, 
+                    "PDF file exported successfully to:\n" + exported.getAbsolutePath(),
+                    "Export Successful",
+                    JOptionPane.INFORMATION_MESSAGE),
+                ex -> JOptionPane.showMessageDialog(view, 
+                    "Error exporting PDF: " + ex.getMessage(),
+                    "Export Error",
+                    JOptionPane.ERROR_MESSAGE));
+            }
+        }
+    }
+
+    private class ChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            model.buildSchedule();
+            if (model.getTableModel().getRowCount() == 0) {
+                JOptionPane.showMessageDialog(view, "Please calculate results first.");
+                return;
+            }
+
+            Schedule schedule = model.getTableModel().getSchedule();
+            JFreeChart chart = schedule.size() > ChartDatasets.CATEGORY_LIMIT
+                ? createXYChart(schedule) : createCategoryChart(schedule);
+
+            // Create chart window
+            JFrame chartFrame = new JFrame("One-Time Investment Progress Chart");
+            chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+            
+            ChartPanel chartPanel = new ChartPanel(chart);
+            chartPanel.setPreferredSize(new Dimension(800, 600));
+            if (schedule.size() > ChartDatasets.CATEGORY_LIMIT) {
+                ChartDownsampling.install(chartPanel);
+            }
+            
+            // Add explain chart button to chart window
+            JPanel chartControlPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+            JButton explainButton = new JButton("Explain Chart");
+            explainButton.addActionListener(e1 -> showChartExplanationDialog());
+            chartControlPanel.add(explainButton);
+            
+            chartFrame.getContentPane().setLayout(new BorderLayout());
+            chartFrame.getContentPane().add(chartPanel, BorderLayout.CENTER);
+            chartFrame.getContentPane().add(chartControlPanel, BorderLayout.SOUTH);
+            
+            chartFrame.pack();
+            chartFrame.setLocationRelativeTo(null);
+            chartFrame.setVisible(true);
+        }
+    }
+
+    /** One category per month; used up to {@link ChartDatasets#CATEGORY_LIMIT} months. */
+    private JFreeChart createCategoryChart(Schedule schedule) {
+        DefaultCategoryDataset dataset = ChartDatasets.oneTimeGrowth(schedule);
+
+        JFreeChart chart = ChartFactory.createLineChart(
+            "One-Time Investment Progress",
+            "Month",
+            "Amount (SAR)",
+            dataset,
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        CategoryPlot plot = chart.getCategoryPlot();
+        
+        // Configure lines
+        LineAndShapeRenderer renderer = new LineAndShapeRenderer();
+        renderer.setDefaultToolTipGenerator(new StandardCategoryToolTipGenerator());
+        
+        // Investment Value line (Blue)
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));
+        renderer.setSeriesStroke(0, new BasicStroke(3.0f));
+        renderer.setSeriesShapesVisible(0, true);
+        
+        // Monthly Profit line (Green)
+        renderer.setSeriesPaint(1, new Color(46, 204, 113));
+        renderer.setSeriesStroke(1, new BasicStroke(3.0f));
+        renderer.setSeriesShapesVisible(1, true);
+        
+        // Charity line (Red)
+        renderer.setSeriesPaint(2, new Color(231, 76, 60));
+        renderer.setSeriesStroke(2, new BasicStroke(3.0f));
+        renderer.setSeriesShapesVisible(2, true);
+        
+        plot.setRenderer(renderer);
+
+        return chart;
+    }
+    /** Plain lines over the month number, for horizons too long for one category per month. */
+    private JFreeChart createXYChart(Schedule schedule) {
+        JFreeChart chart = ChartFactory.createXYLineChart(
+            "One-Time Investment Progress",
+            "Month",
+            "Amount (SAR)",
+            ChartDatasets.oneTimeGrowthXY(schedule),
+            PlotOrientation.VERTICAL,
+            true,
+            true,
+            false
+        );
+
+        XYPlot plot = chart.getXYPlot();
+
+        // Lines only: markers for thousands of months would just be noise
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        renderer.setDrawSeriesLineAsPath(true);
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));
+        renderer.setSeriesPaint(1, new Color(46, 204, 113));
+        renderer.setSeriesPaint(2, new Color(231, 76, 60));
+        for (int series = 0; series < 3; series++) {
+            renderer.setSeriesStroke(series, new BasicStroke(2.0f));
+        }
+        plot.setRenderer(renderer);
+
+        NumberAxis domainAxis = (NumberAxis) plot.getDomainAxis();
+        domainAxis.setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+
+        return chart;
+    }
+
+    private void showChartExplanationDialog() {
+        JDialog dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(view), "Chart Explanation", false);
+        dialog.setLayout(new BorderLayout());
+
+        JTextArea textArea = new JTextArea(
+            "The One-Time Investment Progress Chart shows three key metrics over time:\n\n" +
+            "1. Investment Value (Blue Line):\n" +
+            "   - Shows how your initial investment grows over time\n" +
+            "   - Includes reinvested profits after charity deduction\n\n" +
+            "2. Monthly Profit (Green Line):\n" +
+            "   - Shows the profit generated each month\n" +
+            "   - Increases as your investment value grows\n\n" +
+            "3. Charity (Red Line):\n" +
+            "   - Shows the charity amount deducted each month\n" +
+            "   - Calculated as a percentage of monthly profit\n\n" +
+            "The chart helps you visualize:\n" +
+            "- How long it takes to reach your target monthly profit\n" +
+            "- The growth rate of your investment\n" +
+            "- The relationship between profits and charity\n\n" +
+            "Tips:\n" +
+            "- Hover over data points to see exact values\n" +
+            "- Use the chart to understand the compound effect\n" +
+            "- Compare the lines to see the impact of charity on growth"
+        );
+        textArea.setEditable(false);
+        textArea.setWrapStyleWord(true);
+        textArea.setLineWrap(true);
+        textArea.setMargin(new Insets(10, 10, 10, 10));
+        textArea.setBackground(new Color(250, 250, 250));
+
+        JScrollPane scrollPane = new JScrollPane(textArea);
+        dialog.add(scrollPane, BorderLayout.CENTER);
+
+        dialog.setSize(500, 600);
+        dialog.setLocationRelativeTo(view);
+        dialog.setVisible(true);
+    }
+
+    /** Probability of reaching the target by each month, with random monthly returns. */
+    private class MonteCarloListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            OneTimeInvestmentInputs inputs = readInputs(true);
+            if (inputs == null) {
+                return;
+            }
+            double targetProfit = inputs.targetProfit(), monthlyRate = inputs.profitPct(), charityRate = inputs.charityPct(),
+                investment = inputs.investment();
+
+            monteCarloRunner.run(() -> {
+                    int planned = OneTimeInvestment.solveMonthsRequired(investment, targetProfit, monthlyRate / 100, charityRate / 100);
+                    return MonteCarloSimulation.oneTimeInvestment(investment, targetProfit, charityRate,
+                        MonteCarloCharts.goalHorizon(planned), MonteCarloCharts.returns(monthlyRate),
+                        MonteCarloCharts.paths(), MonteCarloCharts.seed());
+                },
+                result -> {
+                    String title = PropertyLoader.getProperty("one_time_investment.properties", "monte.carlo.title", "One-Time Investment - Chance of Reaching the Target");
+                    MonteCarloCharts.show(title, MonteCarloCharts.probabilityChart(title, result), result);
+                },
+                OneTimeInvestmentController.this::showCalculationError);
+        }
+    }
+
+    private class ExplainChartListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            showChartExplanationDialog();
+        }
+    }
+
+    private class HelpListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.showHelpDialog();
+        }
+    }
+
+    private class FillDefaultsListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            view.targetProfitField.setText(PropertyLoader.getProperty("one_time_investment.properties", "target.monthly.profit", "5000"));
+            view.monthlyRateField.setText(PropertyLoader.getProperty("one_time_investment.properties", "monthly.profit.rate", "2.5"));
+            view.charityField.setText(PropertyLoader.getProperty("one_time_investment.properties", "charity.rate", "10"));
+            view.investmentField.setText(PropertyLoader.getProperty("one_time_investment.properties", "investment.amount", "100000"));
+        }
+    }
+} 
\ No newline at end of file
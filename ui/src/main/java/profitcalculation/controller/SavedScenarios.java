@@ -0,0 +1,41 @@
+package profitcalculation.controller;
+
+import profitcalculation.store.SavedScenario;
+import profitcalculation.store.ScenarioStore;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+
+/**
+ * The app's one {@link ScenarioStore}, opened on first use and kept open, and so locked, until
+ * the app exits. A failed open is retried the next time, e.g. once another instance has closed,
+ * and a store whose files were closed under it, e.g. by an interrupted worker, is opened again.
+ */
+final class SavedScenarios {
+    private static final DateTimeFormatter SAVED_AT =
+        DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT).withZone(ZoneId.systemDefault());
+
+    private static ScenarioStore store;
+
+    private SavedScenarios() {
+    }
+
+    static synchronized ScenarioStore store() throws IOException {
+        if (store != null && !store.isOpen()) {
+            ScenarioStore closed = store;
+            store = null;
+            closed.close();
+        }
+        if (store == null) {
+            store = ScenarioStore.openDefault();
+        }
+        return store;
+    }
+
+    /** How a saved scenario is listed for choosing: its name and when it was saved. */
+    static String label(SavedScenario scenario) {
+        return scenario.name() + " (" + SAVED_AT.format(scenario.savedInstant()) + ")";
+    }
+}
@@ -0,0 +1,22 @@
+package profitcalculation.controller;
+
+import java.io.File;
+import java.util.Locale;
+
+/** Helpers shared by the CSV exports of the three tabs. */
+public final class ScheduleExport {
+    private ScheduleExport() {
+    }
+
+    /**
+     * Adds the missing extension to a chosen CSV file name. Names already ending in .csv or
+     * .csv.gz are kept, otherwise .csv.gz is added when compression was picked and .csv if not.
+     */
+    public static File csvFile(File selected, boolean gzip) {
+        String name = selected.getName().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv") || name.endsWith(".csv.gz")) {
+            return selected;
+        }
+        return new File(selected.getAbsolutePath() + (gzip ? ".csv.gz" : ".csv"));
+    }
+}
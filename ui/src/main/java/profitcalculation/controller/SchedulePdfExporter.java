@@ -0,0 +1,140 @@
+package profitcalculation.controller;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import profitcalculation.engine.Schedule;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+
+/**
+ * Writes a report to PDF: title, parameter and summary paragraphs, then the schedule as a table.
+ * The table is an incomplete iText large element that is flushed to the document every page's
+ * worth of rows, so only one chunk of cells is ever held in memory. The header row is repeated
+ * on each page.
+ */
+public class SchedulePdfExporter {
+    // Roughly one A4 page of 10pt rows
+    private static final int ROWS_PER_CHUNK = 50;
+
+    private static final Font TITLE_FONT = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD);
+    private static final Font SUBTITLE_FONT = new Font(Font.FontFamily.HELVETICA, 10, Font.ITALIC);
+    private static final Font SECTION_FONT = new Font(Font.FontFamily.HELVETICA, 14, Font.BOLD);
+    private static final Font HEADER_FONT = new Font(Font.FontFamily.HELVETICA, 12, Font.BOLD);
+    private static final Font DATA_FONT = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
+
+    private final List<Element> preamble = new ArrayList<>();
+    private final DecimalFormat amountFormat = new DecimalFormat("0.00");
+
+    public SchedulePdfExporter title(String text) {
+        Paragraph title = new Paragraph(text, TITLE_FONT);
+        title.setAlignment(Element.ALIGN_CENTER);
+        preamble.add(title);
+        return spacing();
+    }
+
+    public SchedulePdfExporter subtitle(String text) {
+        Paragraph subtitle = new Paragraph(text, SUBTITLE_FONT);
+        subtitle.setAlignment(Element.ALIGN_CENTER);
+        preamble.add(subtitle);
+        return spacing();
+    }
+
+    public SchedulePdfExporter section(String heading) {
+        preamble.add(new Paragraph(heading, SECTION_FONT));
+        return this;
+    }
+
+    public SchedulePdfExporter text(String text) {
+        preamble.add(new Paragraph(text));
+        return this;
+    }
+
+    public SchedulePdfExporter spacing() {
+        preamble.add(new Paragraph(" "));
+        return this;
+    }
+
+    /**
+     * Writes the report to a file, reporting progress as a percentage of rows written. A partly
+     * written file is deleted if the export fails or is cancelled.
+     *
+     * @throws CancellationException if the calling thread is interrupted while writing rows
+     */
+    public void export(Path file, String[] header, Schedule schedule, IntConsumer progress)
+            throws IOException, DocumentException {
+        boolean done = false;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+            write(out, header, schedule, progress);
+            done = true;
+        } finally {
+            if (!done) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Writes the report to the given stream, which is closed with the document.
+     *
+     * @throws CancellationException if the calling thread is interrupted while writing rows
+     */
+    public void write(OutputStream out, String[] header, Schedule schedule, IntConsumer progress)
+            throws DocumentException {
+        Document document = new Document();
+        PdfWriter.getInstance(document, out);
+        document.open();
+        for (Element element : preamble) {
+            document.add(element);
+        }
+
+        PdfPTable table = new PdfPTable(header.length);
+        table.setWidthPercentage(100);
+        table.setComplete(false);
+        table.setHeaderRows(1);
+        for (String name : header) {
+            table.addCell(new PdfPCell(new Phrase(name, HEADER_FONT)));
+        }
+
+        int rows = schedule.size();
+        int columns = schedule.getValueColumnCount();
+        int reported = -1;
+        for (int row = 0; row < rows; row++) {
+            table.addCell(new PdfPCell(new Phrase(Integer.toString(schedule.getMonth(row)), DATA_FONT)));
+            for (int column = 1; column <= columns; column++) {
+                table.addCell(new PdfPCell(new Phrase(amountFormat.format(schedule.getValue(row, column)), DATA_FONT)));
+            }
+            if ((row + 1) % ROWS_PER_CHUNK == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException();
+                }
+                // Writes the finished rows and drops them from the table
+                document.add(table);
+                int percent = (int) ((row + 1L) * 100 / rows);
+                if (percent != reported) {
+                    progress.accept(percent);
+                    reported = percent;
+                }
+            }
+        }
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+        progress.accept(100);
+    }
+}
@@ -0,0 +1,126 @@
+package profitcalculation.controller;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.TableXYDataset;
+
+import java.util.Arrays;
+
+/**
+ * XY dataset over plain arrays: one x value per item shared by all series and one y array per
+ * series. Renderers read primitives straight from the arrays, and because x is ascending they
+ * only visit the items inside the visible range. {@link #showRange} narrows the items to a
+ * downsampled view of part of the data without copying it.
+ */
+public class SeriesXYDataset extends AbstractXYDataset implements TableXYDataset, DomainInfo {
+    private final String[] keys;
+    private final double[] x;
+    private final double[][] y;
+    /** Indexes of the items currently exposed, or null for all of them. */
+    private int[] items;
+
+    public SeriesXYDataset(String[] keys, double[] x, double[][] y) {
+        if (keys.length != y.length) {
+            throw new IllegalArgumentException("Expected " + keys.length + " series but got " + y.length);
+        }
+        for (double[] series : y) {
+            if (series.length != x.length) {
+                throw new IllegalArgumentException("Every series needs " + x.length + " values");
+            }
+        }
+        this.keys = keys;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Exposes at most about {@code buckets} items per series between {@code lower} and
+     * {@code upper}, plus the neighbours just outside so lines reach the plot edges.
+     */
+    public void showRange(double lower, double upper, int buckets) {
+        int from = Arrays.binarySearch(x, lower);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = Arrays.binarySearch(x, upper);
+        if (to < 0) {
+            to = -to - 2;
+        }
+        from = Math.max(0, from - 1);
+        to = Math.min(x.length - 1, to + 1);
+
+        int[] selected = Lttb.select(x, y, from, to, buckets);
+        if (!Arrays.equals(selected, items)) {
+            items = selected;
+            fireDatasetChanged();
+        }
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return keys.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return keys[series];
+    }
+
+    // The domain bounds always cover the full data, so restoring the auto range after a zoom
+    // zooms all the way out instead of fitting the current view.
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        return x.length == 0 ? Double.NaN : x[0];
+    }
+
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        return x.length == 0 ? Double.NaN : x[x.length - 1];
+    }
+
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return x.length == 0 ? null : new Range(x[0], x[x.length - 1]);
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public int getItemCount() {
+        return items == null ? x.length : items.length;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return getItemCount();
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return x[index(item)];
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return x[index(item)];
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return y[series][index(item)];
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return y[series][index(item)];
+    }
+
+    private int index(int item) {
+        return items == null ? item : items[item];
+    }
+}
@@ -0,0 +1,106 @@
+package profitcalculation.controller;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.labels.StandardXYZToolTipGenerator;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.xy.XYBlockRenderer;
+import org.jfree.chart.title.PaintScaleLegend;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.xy.DefaultXYZDataset;
+import profitcalculation.engine.SweepAxis;
+import profitcalculation.engine.SweepResult;
+
+import java.awt.Color;
+import java.text.DecimalFormat;
+
+/** Heatmap of one months slice of a parameter sweep: profit % across, charity % up. */
+final class SweepHeatmap {
+    private static final Color[] GRADIENT = {
+        new Color(52, 152, 219),  // Blue for the lowest values
+        new Color(46, 204, 113),  // Green
+        new Color(241, 196, 15),  // Yellow
+        new Color(231, 76, 60)    // Red for the highest values
+    };
+    private static final int PAINT_STEPS = 64;
+
+    private SweepHeatmap() {
+    }
+
+    static JFreeChart create(SweepResult result, SweepResult.Metric metric, int monthStep) {
+        SweepAxis profitAxis = result.getProfitAxis();
+        SweepAxis charityAxis = result.getCharityAxis();
+        int cells = profitAxis.steps() * charityAxis.steps();
+        double[] x = new double[cells];
+        double[] y = new double[cells];
+        double[] z = new double[cells];
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int p = 0, i = 0; p < profitAxis.steps(); p++) {
+            for (int c = 0; c < charityAxis.steps(); c++, i++) {
+                x[i] = profitAxis.value(p);
+                y[i] = charityAxis.value(c);
+                z[i] = result.get(metric, p, c, monthStep);
+                min = Math.min(min, z[i]);
+                max = Math.max(max, z[i]);
+            }
+        }
+        if (!(max > min)) {
+            max = min + 1;
+        }
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        dataset.addSeries(metric.toString(), new double[][] {x, y, z});
+
+        LookupPaintScale scale = paintScale(min, max);
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setBlockWidth(blockSize(profitAxis));
+        renderer.setBlockHeight(blockSize(charityAxis));
+        renderer.setPaintScale(scale);
+        renderer.setDefaultToolTipGenerator(new StandardXYZToolTipGenerator(
+            "Profit {1}%, Charity {2}%: SAR {3}", new DecimalFormat("0.##"), new DecimalFormat("0.##"), new DecimalFormat("#,##0.00")));
+
+        NumberAxis xAxis = new NumberAxis("Monthly Profit %");
+        xAxis.setLowerMargin(0);
+        xAxis.setUpperMargin(0);
+        NumberAxis yAxis = new NumberAxis("Charity % of Profit");
+        yAxis.setLowerMargin(0);
+        yAxis.setUpperMargin(0);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        plot.setBackgroundPaint(Color.WHITE);
+        plot.setDomainGridlinesVisible(false);
+        plot.setRangeGridlinesVisible(false);
+
+        JFreeChart chart = new JFreeChart(
+            metric + " after " + result.getMonths(monthStep) + " months", JFreeChart.DEFAULT_TITLE_FONT, plot, false);
+        NumberAxis legendAxis = new NumberAxis(metric + " (SAR)");
+        legendAxis.setNumberFormatOverride(new DecimalFormat("#,##0"));
+        PaintScaleLegend legend = new PaintScaleLegend(scale, legendAxis);
+        legend.setPosition(RectangleEdge.RIGHT);
+        legend.setMargin(4, 4, 40, 4);
+        chart.addSubtitle(legend);
+        chart.setBackgroundPaint(Color.WHITE);
+        return chart;
+    }
+
+    private static double blockSize(SweepAxis axis) {
+        return axis.steps() == 1 ? 1 : Math.abs(axis.to() - axis.from()) / (axis.steps() - 1);
+    }
+
+    private static LookupPaintScale paintScale(double min, double max) {
+        LookupPaintScale scale = new LookupPaintScale(min, max, GRADIENT[GRADIENT.length - 1]);
+        for (int i = 0; i < PAINT_STEPS; i++) {
+            double t = (double) i / (PAINT_STEPS - 1);
+            double position = t * (GRADIENT.length - 1);
+            int from = Math.min((int) position, GRADIENT.length - 2);
+            double blend = position - from;
+            Color a = GRADIENT[from];
+            Color b = GRADIENT[from + 1];
+            scale.add(min + (max - min) * i / PAINT_STEPS, new Color(
+                (int) Math.round(a.getRed() + (b.getRed() - a.getRed()) * blend),
+                (int) Math.round(a.getGreen() + (b.getGreen() - a.getGreen()) * blend),
+                (int) Math.round(a.getBlue() + (b.getBlue() - a.getBlue()) * blend)));
+        }
+        return scale;
+    }
+}
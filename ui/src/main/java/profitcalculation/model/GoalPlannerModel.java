@@ -0,0 +1,49 @@
+package profitcalculation.model;
+
+import profitcalculation.engine.GoalPlanner;
+import profitcalculation.engine.GoalPlannerResult;
+
+public class GoalPlannerModel {
+    private double totalInvestment = 0;
+    private double finalInvestmentValue = 0;
+    private double lastMonthProfit = 0;
+    private int monthsRequired = 0;
+    private final ScheduleTableModel tableModel = new ScheduleTableModel(
+            "Month", "Total Invested", "Investment Value", "Monthly Profit", "Charity");
+
+    /**
+     * Solves for the first month whose profit reaches the target and fills the monthly breakdown.
+     * Returns false, leaving the model cleared, when the goal can never be reached.
+     */
+    public boolean calculate(double targetProfit, double monthlyInvest, double ratePct, double charityPct) {
+        GoalPlannerResult result = GoalPlanner.compute(targetProfit, monthlyInvest, ratePct, charityPct);
+        if (result == null) {
+            clear();
+            return false;
+        }
+        apply(result);
+        return true;
+    }
+
+    public void apply(GoalPlannerResult result) {
+        monthsRequired = result.monthsRequired();
+        totalInvestment = result.totalInvestment();
+        finalInvestmentValue = result.finalInvestmentValue();
+        lastMonthProfit = result.lastMonthProfit();
+        tableModel.setSchedule(result.schedule());
+    }
+
+    public ScheduleTableModel getTableModel() { return tableModel; }
+    public int getMonthsRequired() { return monthsRequired; }
+    public double getTotalInvestment() { return totalInvestment; }
+    public double getFinalInvestmentValue() { return finalInvestmentValue; }
+    public double getLastMonthProfit() { return lastMonthProfit; }
+
+    public void clear() {
+        tableModel.clear();
+        monthsRequired = 0;
+        totalInvestment = 0;
+        finalInvestmentValue = 0;
+        lastMonthProfit = 0;
+    }
+}
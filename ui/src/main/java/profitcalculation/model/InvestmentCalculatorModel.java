@@ -0,0 +1,54 @@
+package profitcalculation.model;
+
+import profitcalculation.engine.AccrualSchedule;
+import profitcalculation.engine.CompoundingFrequency;
+import profitcalculation.engine.InvestmentCalculator;
+import profitcalculation.engine.InvestmentCalculatorResult;
+
+public class InvestmentCalculatorModel {
+    private double totalProfit, totalCharity, finalAmount;
+    private CompoundingFrequency reporting = CompoundingFrequency.MONTHLY;
+    private final ScheduleTableModel tableModel = new ScheduleTableModel(
+            "Month", "Profit", "Charity", "Investment Value");
+
+    public boolean calculate(double investment, double profitPct, double charityPct, int numMonths) {
+        apply(InvestmentCalculator.compute(investment, profitPct, charityPct, numMonths));
+        return true;
+    }
+
+    /** Compounds at the given frequency and reports the breakdown in periods of another. */
+    public boolean calculate(double investment, double profitPct, double charityPct, int numMonths,
+                             CompoundingFrequency compounding, CompoundingFrequency reporting) {
+        apply(InvestmentCalculator.compute(investment, profitPct, charityPct, numMonths, compounding, reporting));
+        return true;
+    }
+
+    public void apply(InvestmentCalculatorResult result) {
+        apply(result, result.schedule() instanceof AccrualSchedule accrual
+                ? accrual.getReporting() : CompoundingFrequency.MONTHLY);
+    }
+
+    /** For a schedule that does not know its period, such as one read back from saved scenarios. */
+    public void apply(InvestmentCalculatorResult result, CompoundingFrequency reporting) {
+        totalProfit = result.totalProfit();
+        totalCharity = result.totalCharity();
+        finalAmount = result.finalAmount();
+        this.reporting = reporting;
+        tableModel.setSchedule(result.schedule());
+    }
+
+    public ScheduleTableModel getTableModel() { return tableModel; }
+    public double getTotalProfit() { return totalProfit; }
+    public double getTotalCharity() { return totalCharity; }
+    public double getFinalAmount() { return finalAmount; }
+    /** Period each row of the breakdown covers. */
+    public CompoundingFrequency getReporting() { return reporting; }
+
+    public void clear() {
+        tableModel.clear();
+        totalProfit = 0;
+        totalCharity = 0;
+        finalAmount = 0;
+        reporting = CompoundingFrequency.MONTHLY;
+    }
+}
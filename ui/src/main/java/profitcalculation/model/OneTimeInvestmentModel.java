@@ -0,0 +1,115 @@
+package profitcalculation.model;
+
+import profitcalculation.cache.CalculationCache;
+import profitcalculation.cache.CalculationKey;
+import profitcalculation.engine.OneTimeInvestment;
+import profitcalculation.engine.OneTimeInvestmentResult;
+
+public class OneTimeInvestmentModel {
+    private final ScheduleTableModel tableModel;
+    private double totalProfit;
+    private double totalCharity;
+    private double finalAmount;
+    private double targetProfit;
+    private int monthsRequired;
+    private OneTimeInvestmentResult result;
+    private boolean scheduleBuilt;
+
+    public OneTimeInvestmentModel() {
+        tableModel = new ScheduleTableModel(
+            "Month", "Investment Value", "Monthly Profit", "Charity", "Remaining Profit"
+        );
+    }
+
+    /**
+     * Calculates the summary and fills the monthly breakdown.
+     * Returns false, leaving the model cleared, when the target can never be reached.
+     */
+    public boolean calculate(double oneTimeInvestment, double targetProfit, double monthlyProfitRate, double charityRate) {
+        OneTimeInvestmentResult result = OneTimeInvestment.compute(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate, true);
+        if (result == null) {
+            clear();
+            return false;
+        }
+        apply(result);
+        return true;
+    }
+
+    /**
+     * Calculates months required, total profit, total charity and final amount without building
+     * any table rows. Returns false, leaving the model cleared, when the target can never be reached.
+     */
+    public boolean calculateSummary(double oneTimeInvestment, double targetProfit, double monthlyProfitRate, double charityRate) {
+        OneTimeInvestmentResult result = OneTimeInvestment.compute(oneTimeInvestment, targetProfit, monthlyProfitRate, charityRate, false);
+        if (result == null) {
+            clear();
+            return false;
+        }
+        apply(result);
+        return true;
+    }
+
+    public void apply(OneTimeInvestmentResult result) {
+        this.result = result;
+        totalProfit = result.totalProfit();
+        totalCharity = result.totalCharity();
+        finalAmount = result.finalAmount();
+        targetProfit = result.targetProfit();
+        monthsRequired = result.monthsRequired();
+        scheduleBuilt = result.schedule() != null;
+        if (scheduleBuilt) {
+            tableModel.setSchedule(result.schedule());
+        } else {
+            tableModel.clear();
+        }
+    }
+
+    /**
+     * Fills the monthly breakdown for the last summary, unless it is already built. The full
+     * result is shared through {@link CalculationCache}, so going back to recent inputs reuses it.
+     */
+    public void buildSchedule() {
+        if (scheduleBuilt || result == null) {
+            return;
+        }
+        OneTimeInvestmentResult full = CalculationCache.get(CalculationKey.oneTimeInvestment(result.oneTimeInvestment(),
+                result.targetProfit(), result.monthlyProfitRate(), result.charityRate(), true));
+        tableModel.setSchedule(full.schedule());
+        scheduleBuilt = true;
+    }
+
+    public void clear() {
+        tableModel.clear();
+        result = null;
+        scheduleBuilt = false;
+        totalProfit = 0;
+        totalCharity = 0;
+        finalAmount = 0;
+        targetProfit = 0;
+        monthsRequired = 0;
+    }
+
+    public ScheduleTableModel getTableModel() {
+        return tableModel;
+    }
+
+    public double getTotalProfit() {
+        return totalProfit;
+    }
+
+    public double getTotalCharity() {
+        return totalCharity;
+    }
+
+    public double getFinalAmount() {
+        return finalAmount;
+    }
+
+    public double getTargetProfit() {
+        return targetProfit;
+    }
+
+    public int getMonthsRequired() {
+        return monthsRequired;
+    }
+}
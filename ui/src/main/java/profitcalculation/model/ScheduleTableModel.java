@@ -0,0 +1,59 @@
+package profitcalculation.model;
+
+import profitcalculation.engine.Schedule;
+import profitcalculation.engine.ScheduleColumns;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DecimalFormat;
+
+/**
+ * Table model over a {@link Schedule}. Rows are swapped in with a single change event and
+ * amounts are formatted only when a cell is asked for, so only the visible rows are ever read.
+ */
+public class ScheduleTableModel extends AbstractTableModel {
+    private static final Schedule EMPTY = new ScheduleColumns(0, 0);
+
+    private final String[] columnNames;
+    private final DecimalFormat decimalFormat = new DecimalFormat("0.00");
+    private Schedule schedule = EMPTY;
+
+    public ScheduleTableModel(String... columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    public void setSchedule(Schedule schedule) {
+        this.schedule = schedule;
+        fireTableDataChanged();
+    }
+
+    public Schedule getSchedule() { return schedule; }
+
+    /** Renames a column, e.g. the period column when the breakdown switches from months to days. */
+    public void setColumnName(int column, String name) {
+        if (!columnNames[column].equals(name)) {
+            columnNames[column] = name;
+            fireTableStructureChanged();
+        }
+    }
+
+    public void clear() {
+        setSchedule(EMPTY);
+    }
+
+    @Override
+    public int getRowCount() { return schedule.size(); }
+
+    @Override
+    public int getColumnCount() { return columnNames.length; }
+
+    @Override
+    public String getColumnName(int column) { return columnNames[column]; }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (column == 0) {
+            return schedule.getMonth(row);
+        }
+        return decimalFormat.format(schedule.getValue(row, column));
+    }
+}
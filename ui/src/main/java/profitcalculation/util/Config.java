@@ -0,0 +1,66 @@
+package profitcalculation.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of one properties file. Values are held in a plain map and message
+ * templates are compiled on first use, so every lookup is a hash read.
+ */
+public final class Config {
+    private final String fileName;
+    private final Map<String, String> values;
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+    Config(String fileName, Map<String, String> values) {
+        this.fileName = fileName;
+        this.values = Map.copyOf(values);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid integer value for " + key + " in " + fileName + ": " + value);
+            }
+        }
+        return defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid double value for " + key + " in " + fileName + ": " + value);
+            }
+        }
+        return defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /** Compiled template for the key, falling back to the default pattern when the key is missing. */
+    public MessageTemplate getTemplate(String key, String defaultPattern) {
+        String pattern = get(key, defaultPattern);
+        return templates.computeIfAbsent(pattern, MessageTemplate::compile);
+    }
+
+    public String format(String key, String defaultPattern, Object... args) {
+        return getTemplate(key, defaultPattern).format(args);
+    }
+}
@@ -0,0 +1,119 @@
+package profitcalculation.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads each properties file once and hands out immutable {@link Config} snapshots.
+ *
+ * <p>Values come from the classpath file, overlaid by a file of the same name in the directory
+ * given by the {@code investment.config.dir} system property, if set. With
+ * {@code -Dinvestment.config.watch=true} that directory is watched and a changed file replaces
+ * its snapshot; callers holding the old snapshot keep a consistent view.
+ */
+public final class ConfigRegistry {
+    public static final String CONFIG_DIR_PROPERTY = "investment.config.dir";
+    public static final String CONFIG_WATCH_PROPERTY = "investment.config.watch";
+
+    private static final Map<String, Config> configs = new ConcurrentHashMap<>();
+    private static Thread watcher;
+
+    private ConfigRegistry() {
+    }
+
+    public static Config get(String fileName) {
+        return configs.computeIfAbsent(fileName, ConfigRegistry::load);
+    }
+
+    /** Reads a file again and replaces its snapshot, if it has been loaded before. */
+    public static void reload(String fileName) {
+        if (configs.containsKey(fileName)) {
+            configs.put(fileName, load(fileName));
+        }
+    }
+
+    /**
+     * Starts watching the override directory when both system properties are set. Returns
+     * whether a watcher is running.
+     */
+    public static synchronized boolean startWatchingIfEnabled() {
+        Path dir = overrideDir();
+        if (watcher != null || dir == null || !Boolean.getBoolean(CONFIG_WATCH_PROPERTY)) {
+            return watcher != null;
+        }
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watcher = new Thread(() -> watch(watchService), "config-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Unable to watch " + dir + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void watch(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed) {
+                        reload(changed.getFileName().toString());
+                    }
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Config load(String fileName) {
+        Map<String, String> values = new HashMap<>();
+        copy(PropertyLoader.loadProperties(fileName), values);
+
+        Path dir = overrideDir();
+        if (dir != null) {
+            Path file = dir.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                Properties overrides = new Properties();
+                try (InputStream input = Files.newInputStream(file)) {
+                    overrides.load(input);
+                    copy(overrides, values);
+                } catch (IOException e) {
+                    System.err.println("Error loading properties from " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        return new Config(fileName, values);
+    }
+
+    private static void copy(Properties properties, Map<String, String> values) {
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name));
+        }
+    }
+
+    private static Path overrideDir() {
+        String dir = System.getProperty(CONFIG_DIR_PROPERTY);
+        return dir == null || dir.isBlank() ? null : Paths.get(dir);
+    }
+}
@@ -0,0 +1,85 @@
+package profitcalculation.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message with {0}, {1}, ... placeholders, split into literal text and argument slots once so
+ * formatting is a single pass over the parts. Unlike MessageFormat, quotes and unknown braces
+ * are kept as plain text, which is how the properties files are written.
+ */
+public final class MessageTemplate {
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, int[] argumentIndexes) {
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            int index = parseIndex(pattern, open + 1, close);
+            if (index >= 0) {
+                literals.add(pattern.substring(start, open));
+                indexes.add(index);
+                start = close + 1;
+            }
+            open = pattern.indexOf('{', index >= 0 ? close + 1 : open + 1);
+        }
+        literals.add(pattern.substring(start));
+
+        int[] argumentIndexes = new int[indexes.size()];
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            argumentIndexes[i] = indexes.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), argumentIndexes);
+    }
+
+    /** Fills in the placeholders. Missing arguments leave the placeholder text in place. */
+    public String format(Object... args) {
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+        StringBuilder result = new StringBuilder(literalLength + 16 * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            result.append(literals[i]);
+            int index = argumentIndexes[i];
+            if (index < args.length) {
+                result.append(args[index]);
+            } else {
+                result.append('{').append(index).append('}');
+            }
+        }
+        return result.append(literals[literals.length - 1]).toString();
+    }
+
+    private static int parseIndex(String pattern, int from, int to) {
+        if (from == to || to - from > 2) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
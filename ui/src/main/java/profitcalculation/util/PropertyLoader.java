@@ -4,8 +4,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
 
+/**
+ * Static lookups into the cached {@link ConfigRegistry} snapshots. Only the first lookup of a
+ * file reads it; after that every call is a hash read.
+ */
 public class PropertyLoader {
     
+    /** Reads a classpath properties file directly, bypassing the cache. */
     public static Properties loadProperties(String fileName) {
         Properties properties = new Properties();
         try (InputStream input = PropertyLoader.class.getClassLoader().getResourceAsStream(fileName)) {
@@ -21,33 +26,19 @@ public class PropertyLoader {
     }
     
     public static String getProperty(String fileName, String key, String defaultValue) {
-        Properties properties = loadProperties(fileName);
-        return properties.getProperty(key, defaultValue);
+        return ConfigRegistry.get(fileName).get(key, defaultValue);
     }
     
     public static int getIntProperty(String fileName, String key, int defaultValue) {
-        Properties properties = loadProperties(fileName);
-        String value = properties.getProperty(key);
-        if (value != null) {
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid integer value for " + key + " in " + fileName + ": " + value);
-            }
-        }
-        return defaultValue;
+        return ConfigRegistry.get(fileName).getInt(key, defaultValue);
     }
     
     public static double getDoubleProperty(String fileName, String key, double defaultValue) {
-        Properties properties = loadProperties(fileName);
-        String value = properties.getProperty(key);
-        if (value != null) {
-            try {
-                return Double.parseDouble(value);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid double value for " + key + " in " + fileName + ": " + value);
-            }
-        }
-        return defaultValue;
+        return ConfigRegistry.get(fileName).getDouble(key, defaultValue);
+    }
+
+    /** Looks up a message and fills in its {0}, {1}, ... placeholders. */
+    public static String format(String fileName, String key, String defaultPattern, Object... args) {
+        return ConfigRegistry.get(fileName).format(key, defaultPattern, args);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package profitcalculation.util;
+
+import javax.swing.*;
+
+/** Reports form fields that the input records rejected. */
+public class ValidationUtil {
+    public static void showValidationError(String errorMessage) {
+        JOptionPane.showMessageDialog(
+            null,
+            errorMessage,
+            "Validation Error",
+            JOptionPane.ERROR_MESSAGE
+        );
+    }
+}
@@ -1,7 +1,7 @@
 package profitcalculation.view;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 import java.awt.*;
 import javax.swing.border.*;
 import profitcalculation.util.PropertyLoader;
@@ -36,8 +36,11 @@ public class GoalPlannerView extends JPanel {
     public JButton exportPDFBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "export.pdf.button", "📄 Export to PDF"), PRIMARY_COLOR);
     public JButton chartBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "show.chart.button", "📊 Show Chart"), WARNING_COLOR);
     public JButton explainChartBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "explain.chart.button", "📖 Explain Chart"), PRIMARY_COLOR);
+    public JButton monteCarloBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "monte.carlo.button", "🎲 Monte Carlo"), WARNING_COLOR);
     public JButton helpBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "help.button", "❓ Help"), PRIMARY_COLOR);
     public JButton fillDefaultsBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "fill.defaults.button", "Fill Default Values"), PRIMARY_COLOR);
+    public JButton cancelBtn = createStyledButton(PropertyLoader.getProperty("goal_planner.properties", "cancel.button", "Cancel"), DANGER_COLOR);
+    public JProgressBar progressBar = new JProgressBar();
 
     public JLabel monthsLabel = new JLabel();
     public JLabel totalInvestmentLabel = new JLabel();
@@ -45,7 +48,7 @@ public class GoalPlannerView extends JPanel {
     public JLabel lastProfitLabel = new JLabel();
     public JTable resultTable;
 
-    public GoalPlannerView(DefaultTableModel tableModel) {
+    public GoalPlannerView(TableModel tableModel) {
         setLayout(new BorderLayout(15, 15));
         setBackground(BACKGROUND_COLOR);
         setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
@@ -80,7 +83,7 @@ public class GoalPlannerView extends JPanel {
             PropertyLoader.getProperty("goal_planner.properties", "charity.rate.tooltip", "Enter the percentage of profit to be donated to charity"));
 
         // Button Panel
-        JPanel buttonPanel = new JPanel(new GridLayout(2, 4, 10, 10));
+        JPanel buttonPanel = new JPanel(new GridLayout(2, 5, 10, 10));
         buttonPanel.setBackground(PANEL_COLOR);
         buttonPanel.add(calculateBtn);
         buttonPanel.add(clearBtn);
@@ -89,6 +92,7 @@ public class GoalPlannerView extends JPanel {
         buttonPanel.add(exportPDFBtn);
         buttonPanel.add(chartBtn);
         buttonPanel.add(explainChartBtn);
+        buttonPanel.add(monteCarloBtn);
         buttonPanel.add(fillDefaultsBtn);
 
         gbc.gridy = 4;
@@ -96,6 +100,15 @@ public class GoalPlannerView extends JPanel {
         gbc.gridwidth = 2;
         inputPanel.add(buttonPanel, gbc);
 
+        // Progress Panel, shown while a calculation is running
+        JPanel progressPanel = new JPanel(new BorderLayout(10, 0));
+        progressPanel.setBackground(PANEL_COLOR);
+        progressPanel.add(progressBar, BorderLayout.CENTER);
+        progressPanel.add(cancelBtn, BorderLayout.EAST);
+
+        gbc.gridy = 5;
+        inputPanel.add(progressPanel, gbc);
+
         resultTable = new JTable(tableModel);
         resultTable.setFont(MAIN_FONT);
         resultTable.setRowHeight(30);
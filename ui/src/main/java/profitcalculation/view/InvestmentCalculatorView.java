@@ -1,9 +1,11 @@
 package profitcalculation.view;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 import java.awt.*;
+import java.util.Locale;
 import javax.swing.border.*;
+import profitcalculation.engine.CompoundingFrequency;
 import profitcalculation.util.PropertyLoader;
 
 public class InvestmentCalculatorView extends JPanel {
@@ -29,6 +31,8 @@ public class InvestmentCalculatorView extends JPanel {
     public JTextField profitField = new JTextField(MONTHLY_PROFIT_RATE_DEFAULT, 12);
     public JTextField charityField = new JTextField(CHARITY_RATE_DEFAULT, 12);
     public JTextField monthsField = new JTextField(NUMBER_OF_MONTHS_DEFAULT, 12);
+    public JComboBox<CompoundingFrequency> compoundingBox = createFrequencyBox("compounding.frequency");
+    public JComboBox<CompoundingFrequency> reportingBox = createFrequencyBox("reporting.period");
 
     public JButton calcBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "calculate.button", "🔍 Calculate"), SUCCESS_COLOR);
     public JButton clearBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "clear.button", "❌ Clear"), DANGER_COLOR);
@@ -36,8 +40,14 @@ public class InvestmentCalculatorView extends JPanel {
     public JButton exportPDFBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "export.pdf.button", "📄 Export to PDF"), PRIMARY_COLOR);
     public JButton chartBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "show.chart.button", "📊 Show Chart"), WARNING_COLOR);
     public JButton explainChartBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "explain.chart.button", "📖 Explain Chart"), PRIMARY_COLOR);
+    public JButton sensitivityBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "sensitivity.button", "🗺️ Sensitivity"), WARNING_COLOR);
+    public JButton monteCarloBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "monte.carlo.button", "🎲 Monte Carlo"), WARNING_COLOR);
     public JButton helpBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "help.button", "❓ Help"), PRIMARY_COLOR);
+    public JButton saveScenarioBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "save.scenario.button", "💾 Save Scenario"), SUCCESS_COLOR);
+    public JButton openScenarioBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "open.scenario.button", "📂 Open Scenario"), PRIMARY_COLOR);
     public JButton fillDefaultsBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "fill.defaults.button", "Fill Default Values"), PRIMARY_COLOR);
+    public JButton cancelBtn = createStyledButton(PropertyLoader.getProperty("investment_calculator.properties", "cancel.button", "Cancel"), DANGER_COLOR);
+    public JProgressBar progressBar = new JProgressBar();
 
     public JLabel totalProfitLabel = new JLabel();
     public JLabel totalCharityLabel = new JLabel();
@@ -45,7 +55,7 @@ public class InvestmentCalculatorView extends JPanel {
     public JLabel totalMonthsLabel = new JLabel();
     public JTable resultTable;
 
-    public InvestmentCalculatorView(DefaultTableModel tableModel) {
+    public InvestmentCalculatorView(TableModel tableModel) {
         setLayout(new BorderLayout(15, 15));
         setBackground(BACKGROUND_COLOR);
         setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
@@ -78,24 +88,45 @@ public class InvestmentCalculatorView extends JPanel {
             PropertyLoader.getProperty("investment_calculator.properties", "number.of.months.label", "📅 Number of Months:"), 
             monthsField, 
             PropertyLoader.getProperty("investment_calculator.properties", "number.of.months.tooltip", "Enter the investment duration in months"));
+        addRow(inputPanel, gbc, 4,
+            PropertyLoader.getProperty("investment_calculator.properties", "compounding.frequency.label", "🔁 Compounding:"),
+            compoundingBox,
+            PropertyLoader.getProperty("investment_calculator.properties", "compounding.frequency.tooltip", "How often profit is added to the investment"));
+        addRow(inputPanel, gbc, 5,
+            PropertyLoader.getProperty("investment_calculator.properties", "reporting.period.label", "🗓️ Breakdown By:"),
+            reportingBox,
+            PropertyLoader.getProperty("investment_calculator.properties", "reporting.period.tooltip", "Period covered by each row of the breakdown"));
 
         // Button Panel
-        JPanel buttonPanel = new JPanel(new GridLayout(2, 4, 10, 10));
+        JPanel buttonPanel = new JPanel(new GridLayout(2, 6, 10, 10));
         buttonPanel.setBackground(PANEL_COLOR);
         buttonPanel.add(calcBtn);
         buttonPanel.add(clearBtn);
         buttonPanel.add(helpBtn);
         buttonPanel.add(exportCSVBtn);
         buttonPanel.add(exportPDFBtn);
+        buttonPanel.add(saveScenarioBtn);
         buttonPanel.add(chartBtn);
         buttonPanel.add(explainChartBtn);
+        buttonPanel.add(sensitivityBtn);
+        buttonPanel.add(monteCarloBtn);
+        buttonPanel.add(openScenarioBtn);
         buttonPanel.add(fillDefaultsBtn);
 
-        gbc.gridy = 4;
+        gbc.gridy = 6;
         gbc.gridx = 0;
         gbc.gridwidth = 2;
         inputPanel.add(buttonPanel, gbc);
 
+        // Progress Panel, shown while a calculation is running
+        JPanel progressPanel = new JPanel(new BorderLayout(10, 0));
+        progressPanel.setBackground(PANEL_COLOR);
+        progressPanel.add(progressBar, BorderLayout.CENTER);
+        progressPanel.add(cancelBtn, BorderLayout.EAST);
+
+        gbc.gridy = 7;
+        inputPanel.add(progressPanel, gbc);
+
         resultTable = new JTable(tableModel);
         resultTable.setFont(MAIN_FONT);
         resultTable.setRowHeight(30);
@@ -170,7 +201,38 @@ public class InvestmentCalculatorView extends JPanel {
         return button;
     }
 
-    private void addRow(JPanel panel, GridBagConstraints gbc, int y, String label, JTextField field, String tooltip) {
+    /** Frequency choice showing the names from the properties file, preselecting the configured default. */
+    private static JComboBox<CompoundingFrequency> createFrequencyBox(String defaultKey) {
+        JComboBox<CompoundingFrequency> box = new JComboBox<>(CompoundingFrequency.values());
+        box.setSelectedItem(frequencyDefault(defaultKey));
+        box.setFont(MAIN_FONT);
+        box.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                return super.getListCellRendererComponent(list, frequencyName((CompoundingFrequency) value),
+                    index, isSelected, cellHasFocus);
+            }
+        });
+        return box;
+    }
+
+    /** The configured default frequency, or monthly when the setting is missing or unknown. */
+    public static CompoundingFrequency frequencyDefault(String key) {
+        try {
+            return CompoundingFrequency.parse(PropertyLoader.getProperty("investment_calculator.properties", key, "monthly"));
+        } catch (IllegalArgumentException e) {
+            return CompoundingFrequency.MONTHLY;
+        }
+    }
+
+    private static String frequencyName(CompoundingFrequency frequency) {
+        String name = frequency.name().toLowerCase(Locale.ROOT);
+        return PropertyLoader.getProperty("investment_calculator.properties", "frequency." + name,
+            Character.toUpperCase(name.charAt(0)) + name.substring(1));
+    }
+
+    private void addRow(JPanel panel, GridBagConstraints gbc, int y, String label, JComponent field, String tooltip) {
         gbc.gridx = 0;
         gbc.gridy = y;
         gbc.gridwidth = 1;
@@ -0,0 +1,45 @@
+package profitcalculation.view;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A tabbed pane that builds each tab's content the first time the tab is selected. Until then
+ * the tab holds an empty panel, so a window with several heavy tabs opens at the cost of one.
+ */
+public class LazyTabbedPane extends JTabbedPane {
+    private final List<Supplier<? extends Component>> builders = new ArrayList<>();
+
+    public LazyTabbedPane() {
+        addChangeListener(e -> buildSelected());
+    }
+
+    /** Adds a tab whose content is built on the event thread when the tab is first shown. */
+    public void addLazyTab(String title, Icon icon, String tip, Supplier<? extends Component> builder) {
+        // Registered first, as adding the first tab selects it and so builds it straight away
+        builders.add(builder);
+        addTab(title, icon, new JPanel(), tip);
+    }
+
+    /** Builds every tab that has not been shown yet. */
+    public void buildAll() {
+        for (int i = 0; i < builders.size(); i++) {
+            build(i);
+        }
+    }
+
+    private void buildSelected() {
+        build(getSelectedIndex());
+    }
+
+    private void build(int index) {
+        if (index < 0 || index >= builders.size() || builders.get(index) == null) {
+            return;
+        }
+        Supplier<? extends Component> builder = builders.set(index, null);
+        setComponentAt(index, builder.get());
+    }
+}
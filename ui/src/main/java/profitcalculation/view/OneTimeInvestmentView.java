@@ -36,8 +36,11 @@ public class OneTimeInvestmentView extends JPanel {
     public JButton exportPDFBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "export.pdf.button", "📄 Export to PDF"), PRIMARY_COLOR);
     public JButton chartBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "show.chart.button", "📊 Show Chart"), WARNING_COLOR);
     public JButton explainChartBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "explain.chart.button", "📖 Explain Chart"), PRIMARY_COLOR);
+    public JButton monteCarloBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "monte.carlo.button", "🎲 Monte Carlo"), WARNING_COLOR);
     public JButton helpBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "help.button", "❓ Help"), PRIMARY_COLOR);
     public JButton fillDefaultsBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "fill.defaults.button", "Fill Default Values"), PRIMARY_COLOR);
+    public JButton cancelBtn = createStyledButton(PropertyLoader.getProperty("one_time_investment.properties", "cancel.button", "Cancel"), DANGER_COLOR);
+    public JProgressBar progressBar = new JProgressBar();
 
     public JLabel monthsLabel = new JLabel();
     public JLabel totalProfitLabel = new JLabel();
@@ -80,7 +83,7 @@ public class OneTimeInvestmentView extends JPanel {
             PropertyLoader.getProperty("one_time_investment.properties", "investment.amount.tooltip", "Enter the one-time investment amount (multiples of 500)"));
 
         // Button Panel
-        JPanel buttonPanel = new JPanel(new GridLayout(2, 4, 10, 10));
+        JPanel buttonPanel = new JPanel(new GridLayout(2, 5, 10, 10));
         buttonPanel.setBackground(PANEL_COLOR);
         buttonPanel.add(calculateBtn);
         buttonPanel.add(clearBtn);
@@ -89,6 +92,7 @@ public class OneTimeInvestmentView extends JPanel {
         buttonPanel.add(exportPDFBtn);
         buttonPanel.add(chartBtn);
         buttonPanel.add(explainChartBtn);
+        buttonPanel.add(monteCarloBtn);
         buttonPanel.add(fillDefaultsBtn);
 
         gbc.gridy = 4;
@@ -96,6 +100,15 @@ public class OneTimeInvestmentView extends JPanel {
         gbc.gridwidth = 2;
         inputPanel.add(buttonPanel, gbc);
 
+        // Progress Panel, shown while a calculation is running
+        JPanel progressPanel = new JPanel(new BorderLayout(10, 0));
+        progressPanel.setBackground(PANEL_COLOR);
+        progressPanel.add(progressBar, BorderLayout.CENTER);
+        progressPanel.add(cancelBtn, BorderLayout.EAST);
+
+        gbc.gridy = 5;
+        inputPanel.add(progressPanel, gbc);
+
         resultTable = new JTable();
         resultTable.setFont(MAIN_FONT);
         resultTable.setRowHeight(30);
@@ -0,0 +1,105 @@
+package profitcalculation.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import profitcalculation.engine.ScenarioKernel;
+import profitcalculation.engine.ScenarioKernels;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * {@link ScenarioKernel} on the Vector API. A group of scenarios as wide as the CPU's preferred
+ * vector is loaded into registers once and stepped through every month there, and four groups
+ * go through each month together so that one group's multiply does not wait on the last. Only
+ * the final values go back to memory. Each lane multiplies and adds separately, without fused
+ * multiply-add, so results match the scalar kernel exactly.
+ */
+public final class VectorScenarioKernel implements ScenarioKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int GROUPS = 4;
+    /** Steps of GROUPS vectors between checks for interruption. */
+    private static final int CHECK_INTERVAL = 256;
+
+    @Override
+    public void advance(double[] amount, double[] rate, double[] retained, double[] totalProfit, int months) {
+        ScenarioKernels.checkLanes(amount, rate, retained, totalProfit, months);
+        int lanes = SPECIES.length();
+        int step = lanes * GROUPS;
+        int i = 0;
+        for (int steps = 0; i <= amount.length - step; i += step, steps++) {
+            if (steps % CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            int i1 = i + lanes;
+            int i2 = i1 + lanes;
+            int i3 = i2 + lanes;
+            DoubleVector a0 = DoubleVector.fromArray(SPECIES, amount, i);
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, amount, i1);
+            DoubleVector a2 = DoubleVector.fromArray(SPECIES, amount, i2);
+            DoubleVector a3 = DoubleVector.fromArray(SPECIES, amount, i3);
+            DoubleVector r0 = DoubleVector.fromArray(SPECIES, rate, i);
+            DoubleVector r1 = DoubleVector.fromArray(SPECIES, rate, i1);
+            DoubleVector r2 = DoubleVector.fromArray(SPECIES, rate, i2);
+            DoubleVector r3 = DoubleVector.fromArray(SPECIES, rate, i3);
+            DoubleVector k0 = DoubleVector.fromArray(SPECIES, retained, i);
+            DoubleVector k1 = DoubleVector.fromArray(SPECIES, retained, i1);
+            DoubleVector k2 = DoubleVector.fromArray(SPECIES, retained, i2);
+            DoubleVector k3 = DoubleVector.fromArray(SPECIES, retained, i3);
+            DoubleVector t0 = DoubleVector.fromArray(SPECIES, totalProfit, i);
+            DoubleVector t1 = DoubleVector.fromArray(SPECIES, totalProfit, i1);
+            DoubleVector t2 = DoubleVector.fromArray(SPECIES, totalProfit, i2);
+            DoubleVector t3 = DoubleVector.fromArray(SPECIES, totalProfit, i3);
+            for (int month = 0; month < months; month++) {
+                DoubleVector p0 = a0.mul(r0);
+                DoubleVector p1 = a1.mul(r1);
+                DoubleVector p2 = a2.mul(r2);
+                DoubleVector p3 = a3.mul(r3);
+                t0 = t0.add(p0);
+                t1 = t1.add(p1);
+                t2 = t2.add(p2);
+                t3 = t3.add(p3);
+                a0 = a0.add(p0.mul(k0));
+                a1 = a1.add(p1.mul(k1));
+                a2 = a2.add(p2.mul(k2));
+                a3 = a3.add(p3.mul(k3));
+            }
+            a0.intoArray(amount, i);
+            a1.intoArray(amount, i1);
+            a2.intoArray(amount, i2);
+            a3.intoArray(amount, i3);
+            t0.intoArray(totalProfit, i);
+            t1.intoArray(totalProfit, i1);
+            t2.intoArray(totalProfit, i2);
+            t3.intoArray(totalProfit, i3);
+        }
+        for (; i <= amount.length - lanes; i += lanes) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, amount, i);
+            DoubleVector r = DoubleVector.fromArray(SPECIES, rate, i);
+            DoubleVector k = DoubleVector.fromArray(SPECIES, retained, i);
+            DoubleVector t = DoubleVector.fromArray(SPECIES, totalProfit, i);
+            for (int month = 0; month < months; month++) {
+                DoubleVector p = a.mul(r);
+                t = t.add(p);
+                a = a.add(p.mul(k));
+            }
+            a.intoArray(amount, i);
+            t.intoArray(totalProfit, i);
+        }
+        for (; i < amount.length; i++) {
+            double a = amount[i];
+            double t = totalProfit[i];
+            for (int month = 0; month < months; month++) {
+                double p = a * rate[i];
+                t += p;
+                a += p * retained[i];
+            }
+            amount[i] = a;
+            totalProfit[i] = t;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector " + SPECIES.vectorBitSize() + "-bit";
+    }
+}